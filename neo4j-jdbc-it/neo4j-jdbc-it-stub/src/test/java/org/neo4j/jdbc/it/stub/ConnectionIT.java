@@ -20,6 +20,8 @@ package org.neo4j.jdbc.it.stub;
 
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -249,6 +251,32 @@ class ConnectionIT extends IntegrationTestBase {
 		verifyStubServer();
 	}
 
+	@Test
+	@StubScript(path = "writer_tx_cancelled_with_reset.script")
+	void shouldCancelRunningStatementAndReuseConnection() throws Exception {
+		try (var connection = getConnection(); var statement = connection.createStatement()) {
+			var query = CompletableFuture.supplyAsync(() -> {
+				try {
+					return statement.executeQuery("CALL db.awaitIndexes()");
+				}
+				catch (SQLException ex) {
+					throw new CompletionException(ex);
+				}
+			});
+			while (!query.isDone()) {
+				statement.cancel();
+				Thread.sleep(50);
+			}
+			assertThatThrownBy(query::join).hasCauseInstanceOf(SQLException.class);
+
+			var result = statement.executeQuery("RETURN 1 as n");
+			assertThat(result.next()).isTrue();
+			assertThat(result.getInt(1)).isEqualTo(1);
+		}
+
+		verifyStubServer();
+	}
+
 	@Test
 	@StubScript(path = "echo_unsupported.script")
 	void unsupportedTypeShouldWork() throws SQLException {
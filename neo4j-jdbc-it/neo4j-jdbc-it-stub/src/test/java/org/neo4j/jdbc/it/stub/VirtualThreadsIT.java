@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.it.stub;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.neo4j.jdbc.it.stub.server.IntegrationTestBase;
+import org.neo4j.jdbc.it.stub.server.StubScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsIT extends IntegrationTestBase {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private static final int VIRTUAL_THREADS = 10_000;
+
+	private static final int MAX_CONNECTIONS = 100;
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	@StubScript(path = "virtual_threads.script")
+	void shouldNotPinCarrierThreads() throws Exception {
+		var recordingFile = Files.createTempFile("virtual-threads", ".jfr");
+		try (var recording = new Recording()) {
+			recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+			recording.start();
+
+			// Waiting for a permit parks the virtual threads like waiting for a pooled
+			// connection would do
+			var connections = new Semaphore(MAX_CONNECTIONS);
+			var results = new ArrayList<Future<Integer>>(VIRTUAL_THREADS);
+			var executor = newVirtualThreadPerTaskExecutor();
+			for (var i = 0; i < VIRTUAL_THREADS; ++i) {
+				results.add(executor.submit(() -> {
+					connections.acquire();
+					try (var connection = getConnection();
+							var statement = connection.createStatement();
+							var result = statement.executeQuery("RETURN 1 as n")) {
+						return result.next() ? result.getInt(1) : -1;
+					}
+					finally {
+						connections.release();
+					}
+				}));
+			}
+			executor.shutdown();
+			assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+			for (var result : results) {
+				assertThat(result.get()).isOne();
+			}
+
+			recording.stop();
+			recording.dump(recordingFile);
+			var pinned = RecordingFile.readAllEvents(recordingFile)
+				.stream()
+				.filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+				.filter(VirtualThreadsIT::isCausedByDriver)
+				.toList();
+			assertThat(pinned).isEmpty();
+		}
+		finally {
+			Files.deleteIfExists(recordingFile);
+		}
+
+		verifyStubServer();
+	}
+
+	private static boolean isCausedByDriver(RecordedEvent event) {
+		var stackTrace = event.getStackTrace();
+		// The frames of this test are on the stack of every virtual thread
+		return stackTrace != null && stackTrace.getFrames()
+			.stream()
+			.map(frame -> frame.getMethod().getType().getName())
+			.anyMatch(type -> type.startsWith("org.neo4j.jdbc.") && !type.startsWith("org.neo4j.jdbc.it."));
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+		// This module is compiled for Java 17, virtual threads are only available at
+		// runtime
+		return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+	}
+
+}
@@ -35,6 +35,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -143,6 +145,12 @@ final class SqlToCypher implements Translator {
 
 	private final Cache<Query, String> cache = Cache.getInstance(STATEMENT_CACHE_SIZE);
 
+	/**
+	 * Guards the cache, which is not thread-safe. The lock is not held while translating,
+	 * as translations might query the database metadata.
+	 */
+	private final Lock cacheLock = new ReentrantLock();
+
 	private final Map<String, View> views;
 
 	private SqlToCypher(SqlToCypherConfig config) {
@@ -172,7 +180,13 @@ final class SqlToCypher implements Translator {
 
 	@Override
 	public void flushCache() {
-		this.cache.flush();
+		this.cacheLock.lock();
+		try {
+			this.cache.flush();
+		}
+		finally {
+			this.cacheLock.unlock();
+		}
 	}
 
 	@Override
@@ -202,12 +216,31 @@ final class SqlToCypher implements Translator {
 			throw new IllegalArgumentException(pe);
 		}
 
-		if (this.config.isCacheEnabled()) {
-			synchronized (this) {
-				return this.cache.computeIfAbsent(query, key -> translate0(query, optionalDatabaseMetaData));
+		if (!this.config.isCacheEnabled()) {
+			return translate0(query, optionalDatabaseMetaData);
+		}
+
+		String cypher;
+		this.cacheLock.lock();
+		try {
+			cypher = this.cache.get(query);
+		}
+		finally {
+			this.cacheLock.unlock();
+		}
+		if (cypher == null) {
+			// Concurrent translations of the same query yield the same result, the last
+			// one wins
+			cypher = translate0(query, optionalDatabaseMetaData);
+			this.cacheLock.lock();
+			try {
+				this.cache.put(query, cypher);
+			}
+			finally {
+				this.cacheLock.unlock();
 			}
 		}
-		return translate0(query, optionalDatabaseMetaData);
+		return cypher;
 	}
 
 	private String translate0(Query query, DatabaseMetaData databaseMetaData) {
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
+import org.neo4j.jdbc.values.AsValue;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+/**
+ * Computes the number of records to request with each {@code PULL} of a result set. It
+ * starts with a small batch for a fast time to first row and then grows or shrinks the
+ * batch size based on the measured latency of each batch and the estimated size of the
+ * records received, never exceeding the configured memory limit for a batch.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class AdaptiveFetchSize {
+
+	static final int INITIAL_FETCH_SIZE = 64;
+
+	static final int MIN_FETCH_SIZE = 16;
+
+	static final long DEFAULT_MEMORY_LIMIT = 16L * 1024 * 1024;
+
+	/**
+	 * Batches that take less than this to arrive will cause the batch size to grow,
+	 * batches that take more than twice as long will cause it to shrink.
+	 */
+	static final long TARGET_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private final long memoryLimit;
+
+	private int fetchSize = INITIAL_FETCH_SIZE;
+
+	private long estimatedRecordSize;
+
+	AdaptiveFetchSize(long memoryLimit) {
+		this.memoryLimit = (memoryLimit > 0) ? memoryLimit : DEFAULT_MEMORY_LIMIT;
+	}
+
+	/**
+	 * {@return the number of records to request with the next pull}
+	 */
+	int get() {
+		return this.fetchSize;
+	}
+
+	/**
+	 * Adapts the fetch size to a batch that has been received.
+	 * @param batch the batch
+	 * @param requested the number of records that have been requested
+	 * @param latencyNanos the time spent waiting for the batch
+	 */
+	void onBatch(PullResponse batch, long requested, long latencyNanos) {
+		var records = batch.records();
+		if (!records.isEmpty()) {
+			var recordSize = estimateRecordSize(batch);
+			this.estimatedRecordSize = (this.estimatedRecordSize == 0) ? recordSize
+					: (this.estimatedRecordSize + recordSize) / 2;
+		}
+
+		long newFetchSize = this.fetchSize;
+		if (latencyNanos > 2 * TARGET_LATENCY_NANOS) {
+			newFetchSize = newFetchSize / 2;
+		}
+		else if (latencyNanos < TARGET_LATENCY_NANOS && records.size() >= requested) {
+			newFetchSize = newFetchSize * 2;
+		}
+
+		var upperBound = Math.max(MIN_FETCH_SIZE, this.memoryLimit / Math.max(1, this.estimatedRecordSize));
+		this.fetchSize = (int) Math.min(Integer.MAX_VALUE,
+				Math.max(MIN_FETCH_SIZE, Math.min(newFetchSize, upperBound)));
+	}
+
+	/**
+	 * Estimates the size of a single record of a batch. Sampling the first record is
+	 * good enough, estimating all of them would cost more than we could gain.
+	 * @param batch the batch
+	 * @return the estimated size of a record in bytes, {@literal 0} for an empty batch
+	 */
+	static long estimateRecordSize(PullResponse batch) {
+		var size = batch.estimatedRecordSize();
+		if (size > 0) {
+			return size;
+		}
+		var records = batch.records();
+		return records.isEmpty() ? 0 : estimateSize(records.get(0));
+	}
+
+	/**
+	 * Estimates the size of a record from the Bolt values it has been received as,
+	 * without converting them into a record. Values that already wrap a driver value are
+	 * estimated from that value, other Bolt values from their type and size.
+	 * @param values the Bolt values of a record
+	 * @return the estimated size in bytes
+	 */
+	static long estimateSize(List<?> values) {
+		long size = 16L + 8L * values.size();
+		for (var value : values) {
+			size += estimateRawSize(value);
+		}
+		return size;
+	}
+
+	private static long estimateRawSize(Object value) {
+		if (value instanceof AsValue asValue) {
+			return estimateSize(asValue.asValue());
+		}
+		if (value instanceof org.neo4j.bolt.connection.values.Value boltValue) {
+			return estimateSize(boltValue);
+		}
+		return estimateSize(Values.value(value));
+	}
+
+	private static long estimateSize(org.neo4j.bolt.connection.values.Value value) {
+		return switch (value.boltValueType()) {
+			case NULL, BOOLEAN -> 16;
+			case INTEGER, FLOAT -> 24;
+			case STRING -> 40L + value.asString().length();
+			case BYTES -> 16L + value.asByteArray().length;
+			case LIST, MAP -> 32L + 32L * value.size();
+			default -> 64;
+		};
+	}
+
+	static long estimateSize(Record record) {
+		long size = 16L + 8L * record.size();
+		for (var value : record.values()) {
+			size += estimateSize(value);
+		}
+		return size;
+	}
+
+	static long estimateSize(Value value) {
+		return switch (value.type()) {
+			case NULL, BOOLEAN -> 16;
+			case INTEGER, FLOAT -> 24;
+			case STRING -> 40L + value.asString().length();
+			case BYTES -> 16L + value.size();
+			case VECTOR -> 16L + 8L * value.asVector().size();
+			case LIST, MAP -> {
+				long size = 32L;
+				for (var element : value.values()) {
+					size += 8 + estimateSize(element);
+				}
+				yield size;
+			}
+			case NODE, RELATIONSHIP -> {
+				long size = 64L;
+				for (var property : value.asEntity().values()) {
+					size += 8 + estimateSize(property);
+				}
+				yield size;
+			}
+			default -> 64;
+		};
+	}
+
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.neo4j.jdbc.values.BooleanValue;
+import org.neo4j.jdbc.values.FloatValue;
+import org.neo4j.jdbc.values.IntegerValue;
+import org.neo4j.jdbc.values.StringValue;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+/**
+ * The parameter sets added to a batch of a prepared statement, stored column-wise. Each
+ * parameter name owns one column, integer, float and boolean values are kept in primitive
+ * arrays and strings without their value wrapper, so that a large batch does not retain a
+ * map and a couple of boxed values per row. Rows are materialized again only when they
+ * are sent, either one by one as a map or as a list of map values for an
+ * {@code UNWIND}.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class BatchParameters {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final Map<String, Column> columns = new LinkedHashMap<>();
+
+	private int size;
+
+	private long estimatedSize;
+
+	/**
+	 * Adds a row of parameters to this batch, the map is not retained.
+	 * @param parameters the parameters of the new row
+	 */
+	void add(Map<String, Object> parameters) {
+		for (var entry : parameters.entrySet()) {
+			var value = entry.getValue();
+			var column = this.columns.get(entry.getKey());
+			if (column == null) {
+				column = Column.of(value);
+				this.columns.put(entry.getKey(), column);
+			}
+			else if (!column.accepts(value)) {
+				column = ObjectColumn.copyOf(column, this.size);
+				this.columns.put(entry.getKey(), column);
+			}
+			column.set(this.size, value);
+			this.estimatedSize += 8 + ((value instanceof Value v) ? AdaptiveFetchSize.estimateSize(v) : 64);
+		}
+		++this.size;
+	}
+
+	/**
+	 * {@return the number of rows in this batch}
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * {@return the estimated number of bytes of all rows in this batch once they are
+	 * sent}
+	 */
+	long estimatedSize() {
+		return this.estimatedSize;
+	}
+
+	/**
+	 * Estimates the size of a range of rows from the average size of all rows, without
+	 * looking at the individual values.
+	 * @param from the index of the first row, inclusive
+	 * @param to the index of the last row, exclusive
+	 * @return the estimated number of bytes of the rows once they are sent
+	 */
+	long estimatedSize(int from, int to) {
+		Objects.checkFromToIndex(from, to, this.size);
+		return (this.size != 0) ? this.estimatedSize * (to - from) / this.size : 0;
+	}
+
+	/**
+	 * {@return true if no rows have been added to this batch}
+	 */
+	boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * {@return the names of all parameters used in any row}
+	 */
+	Set<String> keys() {
+		return this.columns.keySet();
+	}
+
+	/**
+	 * Materializes a single row.
+	 * @param row the index of the row
+	 * @return a new, mutable map with all parameters of that row
+	 */
+	Map<String, Object> get(int row) {
+		Objects.checkIndex(row, this.size);
+		var result = new LinkedHashMap<String, Object>(this.columns.size());
+		for (var entry : this.columns.entrySet()) {
+			var column = entry.getValue();
+			if (column.present.get(row)) {
+				result.put(entry.getKey(), column.get(row));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Finds all parameters that are present with the same value in every row.
+	 * @return a new, mutable map with the parameters that are constant throughout this
+	 * batch
+	 */
+	Map<String, Object> constants() {
+		var result = new HashMap<String, Object>();
+		if (this.size == 0) {
+			return result;
+		}
+		for (var entry : this.columns.entrySet()) {
+			var column = entry.getValue();
+			if (column.isConstant(this.size)) {
+				result.put(entry.getKey(), column.get(0));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Materializes a range of rows as a list of maps. Each row becomes one map value,
+	 * which the Bolt layer wraps without copying it again. The columns to include are
+	 * resolved once per range and the map the row is collected in is reused, as the map
+	 * value copies its entries.
+	 * @param from the index of the first row, inclusive
+	 * @param to the index of the last row, exclusive
+	 * @param excludedKeys parameters that won't be included in the maps
+	 * @return a list value of map values
+	 */
+	Value toListValue(int from, int to, Set<String> excludedKeys) {
+		Objects.checkFromToIndex(from, to, this.size);
+		var included = new ArrayList<Map.Entry<String, Column>>(this.columns.size());
+		for (var entry : this.columns.entrySet()) {
+			if (!excludedKeys.contains(entry.getKey())) {
+				included.add(entry);
+			}
+		}
+		var rows = new Value[to - from];
+		var values = new HashMap<String, Object>(included.size());
+		for (var row = from; row < to; ++row) {
+			for (var entry : included) {
+				if (entry.getValue().present.get(row)) {
+					values.put(entry.getKey(), entry.getValue().get(row));
+				}
+			}
+			rows[row - from] = Values.value(values);
+			values.clear();
+		}
+		return Values.value(rows);
+	}
+
+	private abstract static sealed class Column
+			permits LongColumn, DoubleColumn, BooleanColumn, StringColumn, ObjectColumn {
+
+		final BitSet present = new BitSet();
+
+		static Column of(Object value) {
+			if (value instanceof IntegerValue) {
+				return new LongColumn();
+			}
+			else if (value instanceof FloatValue) {
+				return new DoubleColumn();
+			}
+			else if (value instanceof BooleanValue) {
+				return new BooleanColumn();
+			}
+			else if (value instanceof StringValue) {
+				return new StringColumn();
+			}
+			return new ObjectColumn();
+		}
+
+		static int newCapacity(int currentCapacity, int row) {
+			return Math.max(row + 1, Math.max(INITIAL_CAPACITY, currentCapacity * 2));
+		}
+
+		abstract boolean accepts(Object value);
+
+		abstract void set(int row, Object value);
+
+		abstract Object get(int row);
+
+		abstract boolean isEqual(int row, int otherRow);
+
+		final boolean isConstant(int size) {
+			if (this.present.cardinality() != size) {
+				return false;
+			}
+			for (var row = 1; row < size; ++row) {
+				if (!isEqual(0, row)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+	private static final class LongColumn extends Column {
+
+		private long[] values = new long[0];
+
+		@Override
+		boolean accepts(Object value) {
+			return value instanceof IntegerValue;
+		}
+
+		@Override
+		void set(int row, Object value) {
+			if (row >= this.values.length) {
+				this.values = Arrays.copyOf(this.values, newCapacity(this.values.length, row));
+			}
+			this.values[row] = ((Value) value).asLong();
+			this.present.set(row);
+		}
+
+		@Override
+		Object get(int row) {
+			return Values.value(this.values[row]);
+		}
+
+		@Override
+		boolean isEqual(int row, int otherRow) {
+			return this.values[row] == this.values[otherRow];
+		}
+
+	}
+
+	private static final class DoubleColumn extends Column {
+
+		private double[] values = new double[0];
+
+		@Override
+		boolean accepts(Object value) {
+			return value instanceof FloatValue;
+		}
+
+		@Override
+		void set(int row, Object value) {
+			if (row >= this.values.length) {
+				this.values = Arrays.copyOf(this.values, newCapacity(this.values.length, row));
+			}
+			this.values[row] = ((Value) value).asDouble();
+			this.present.set(row);
+		}
+
+		@Override
+		Object get(int row) {
+			return Values.value(this.values[row]);
+		}
+
+		@Override
+		boolean isEqual(int row, int otherRow) {
+			return Double.compare(this.values[row], this.values[otherRow]) == 0;
+		}
+
+	}
+
+	private static final class BooleanColumn extends Column {
+
+		private final BitSet values = new BitSet();
+
+		@Override
+		boolean accepts(Object value) {
+			return value instanceof BooleanValue;
+		}
+
+		@Override
+		void set(int row, Object value) {
+			this.values.set(row, ((Value) value).asBoolean());
+			this.present.set(row);
+		}
+
+		@Override
+		Object get(int row) {
+			return Values.value(this.values.get(row));
+		}
+
+		@Override
+		boolean isEqual(int row, int otherRow) {
+			return this.values.get(row) == this.values.get(otherRow);
+		}
+
+	}
+
+	private static final class StringColumn extends Column {
+
+		private String[] values = new String[0];
+
+		@Override
+		boolean accepts(Object value) {
+			return value instanceof StringValue;
+		}
+
+		@Override
+		void set(int row, Object value) {
+			if (row >= this.values.length) {
+				this.values = Arrays.copyOf(this.values, newCapacity(this.values.length, row));
+			}
+			this.values[row] = ((Value) value).asString();
+			this.present.set(row);
+		}
+
+		@Override
+		Object get(int row) {
+			return Values.value(this.values[row]);
+		}
+
+		@Override
+		boolean isEqual(int row, int otherRow) {
+			return this.values[row].equals(this.values[otherRow]);
+		}
+
+	}
+
+	private static final class ObjectColumn extends Column {
+
+		private Object[] values = new Object[0];
+
+		static ObjectColumn copyOf(Column column, int size) {
+			var result = new ObjectColumn();
+			result.values = new Object[newCapacity(0, size)];
+			for (var row = column.present.nextSetBit(0); row >= 0
+					&& row < size; row = column.present.nextSetBit(row + 1)) {
+				result.values[row] = column.get(row);
+				result.present.set(row);
+			}
+			return result;
+		}
+
+		@Override
+		boolean accepts(Object value) {
+			return true;
+		}
+
+		@Override
+		void set(int row, Object value) {
+			if (row >= this.values.length) {
+				this.values = Arrays.copyOf(this.values, newCapacity(this.values.length, row));
+			}
+			this.values[row] = value;
+			this.present.set(row);
+		}
+
+		@Override
+		Object get(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		boolean isEqual(int row, int otherRow) {
+			return Objects.equals(this.values[row], this.values[otherRow]);
+		}
+
+	}
+
+}
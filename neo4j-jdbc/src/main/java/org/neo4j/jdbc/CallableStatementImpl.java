@@ -47,6 +47,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -66,8 +67,8 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.callable-statement");
 
 	static CallableStatementImpl prepareCall(Connection connection, Neo4jTransactionSupplier transactionSupplier,
-			Consumer<Class<? extends Statement>> onClose, boolean rewriteBatchedStatements, String sql)
-			throws SQLException {
+			Consumer<Class<? extends Statement>> onClose, boolean rewriteBatchedStatements, double readAheadWatermark,
+			boolean adaptiveFetchSize, long adaptiveFetchSizeMemoryLimit, String sql) throws SQLException {
 
 		// We should cache the descriptor if this gets widely used.
 
@@ -118,6 +119,7 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 		// We can always store the descriptor with the statement to check for yielded /
 		// return values if wished / needed
 		return new CallableStatementImpl(connection, transactionSupplier, onClose, rewriteBatchedStatements,
+				readAheadWatermark, adaptiveFetchSize, adaptiveFetchSizeMemoryLimit,
 				descriptor.toCypher(parameterOrder), new ParameterMetaDataImpl(parameterTypes));
 	}
 
@@ -130,10 +132,11 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 	private ResultSet parameterResultSet;
 
 	CallableStatementImpl(Connection connection, Neo4jTransactionSupplier transactionSupplier,
-			Consumer<Class<? extends Statement>> onClose, boolean rewriteBatchedStatements, String sql,
+			Consumer<Class<? extends Statement>> onClose, boolean rewriteBatchedStatements, double readAheadWatermark,
+			boolean adaptiveFetchSize, long adaptiveFetchSizeMemoryLimit, String sql,
 			ParameterMetaData parameterMetaData) {
 		super(connection, transactionSupplier, UnaryOperator.identity(), null, onClose, false, rewriteBatchedStatements,
-				sql);
+				readAheadWatermark, adaptiveFetchSize, adaptiveFetchSizeMemoryLimit, sql);
 
 		this.parameterMetaData = parameterMetaData;
 	}
@@ -1027,6 +1030,11 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 		throw newIllegalMethodInvocation();
 	}
 
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync() throws SQLException {
+		throw newIllegalMethodInvocation();
+	}
+
 	@Override
 	public int[] executeBatch() throws SQLException {
 		throw newIllegalMethodInvocation();
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+/**
+ * A column-oriented batch of rows as returned by {@link Neo4jResultSet#nextBatch(int)}.
+ * Columns whose non-null values are all integers, floats or booleans are materialized as
+ * primitive arrays accompanied by a bitmap of {@literal null} rows, all other columns are
+ * materialized as arrays of {@link Value values}. The arrays are owned by the batch and
+ * are not copied on access.
+ *
+ * @param keys the names of the columns in this batch
+ * @param rowCount the number of rows in this batch
+ * @param columns the columns of this batch, in the same order as the keys
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+public record ColumnBatch(List<String> keys, int rowCount, List<Column> columns) {
+
+	/**
+	 * Creates a new batch.
+	 * @param keys the names of the columns in this batch
+	 * @param rowCount the number of rows in this batch
+	 * @param columns the columns of this batch, in the same order as the keys
+	 */
+	public ColumnBatch {
+		keys = List.copyOf(keys);
+		columns = List.copyOf(columns);
+		if (keys.size() != columns.size()) {
+			throw new IllegalArgumentException("The number of keys must match the number of columns");
+		}
+	}
+
+	/**
+	 * {@return <code>true</code> if this batch does not contain any rows}
+	 */
+	public boolean isEmpty() {
+		return this.rowCount == 0;
+	}
+
+	/**
+	 * Retrieves a column by its index.
+	 * @param columnIndex the first column is 1, the second is 2, ...
+	 * @return the column at the given index
+	 */
+	public Column column(int columnIndex) {
+		return this.columns.get(columnIndex - 1);
+	}
+
+	/**
+	 * Retrieves a column by its name.
+	 * @param columnLabel the name of the column
+	 * @return the column with the given name
+	 * @throws IllegalArgumentException if there is no such column
+	 */
+	public Column column(String columnLabel) {
+		var idx = this.keys.indexOf(columnLabel);
+		if (idx < 0) {
+			throw new IllegalArgumentException("Invalid column label value %s".formatted(columnLabel));
+		}
+		return this.columns.get(idx);
+	}
+
+	/**
+	 * A single column of a {@link ColumnBatch}.
+	 *
+	 * @since 6.9.0
+	 */
+	public sealed interface Column permits LongColumn, DoubleColumn, BooleanColumn, ValueColumn {
+
+		/**
+		 * {@return the number of rows in this column}
+		 */
+		int size();
+
+		/**
+		 * Checks whether the value in the given row is {@literal null}.
+		 * @param row the 0-based row within the batch
+		 * @return {@literal true} if the value is {@literal null}
+		 */
+		boolean isNull(int row);
+
+		/**
+		 * Retrieves the value in the given row as a generic {@link Value}, boxing
+		 * primitive values if necessary.
+		 * @param row the 0-based row within the batch
+		 * @return the value in the given row
+		 */
+		Value get(int row);
+
+	}
+
+	/**
+	 * A column of integer values.
+	 *
+	 * @param values the values, {@literal 0} for rows that are {@literal null}
+	 * @param nulls a bitmap of the rows that are {@literal null}
+	 * @since 6.9.0
+	 */
+	public record LongColumn(long[] values, BitSet nulls) implements Column {
+
+		@Override
+		public int size() {
+			return this.values.length;
+		}
+
+		@Override
+		public boolean isNull(int row) {
+			return this.nulls.get(row);
+		}
+
+		@Override
+		public Value get(int row) {
+			return isNull(row) ? Values.NULL : Values.value(this.values[row]);
+		}
+
+	}
+
+	/**
+	 * A column of float values.
+	 *
+	 * @param values the values, {@literal 0.0} for rows that are {@literal null}
+	 * @param nulls a bitmap of the rows that are {@literal null}
+	 * @since 6.9.0
+	 */
+	public record DoubleColumn(double[] values, BitSet nulls) implements Column {
+
+		@Override
+		public int size() {
+			return this.values.length;
+		}
+
+		@Override
+		public boolean isNull(int row) {
+			return this.nulls.get(row);
+		}
+
+		@Override
+		public Value get(int row) {
+			return isNull(row) ? Values.NULL : Values.value(this.values[row]);
+		}
+
+	}
+
+	/**
+	 * A column of boolean values.
+	 *
+	 * @param values the values, {@literal false} for rows that are {@literal null}
+	 * @param nulls a bitmap of the rows that are {@literal null}
+	 * @since 6.9.0
+	 */
+	public record BooleanColumn(boolean[] values, BitSet nulls) implements Column {
+
+		@Override
+		public int size() {
+			return this.values.length;
+		}
+
+		@Override
+		public boolean isNull(int row) {
+			return this.nulls.get(row);
+		}
+
+		@Override
+		public Value get(int row) {
+			return isNull(row) ? Values.NULL : Values.value(this.values[row]);
+		}
+
+	}
+
+	/**
+	 * A column of heterogeneous or non-primitive values.
+	 *
+	 * @param values the values, {@link Values#NULL} for rows that are {@literal null}
+	 * @since 6.9.0
+	 */
+	public record ValueColumn(Value[] values) implements Column {
+
+		@Override
+		public int size() {
+			return this.values.length;
+		}
+
+		@Override
+		public boolean isNull(int row) {
+			return this.values[row].isNull();
+		}
+
+		@Override
+		public Value get(int row) {
+			return this.values[row];
+		}
+
+	}
+
+}
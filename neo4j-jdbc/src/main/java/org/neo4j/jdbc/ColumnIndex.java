@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of column names that resolves the index of a column in constant time.
+ * One instance is created per result and shared by all records of that result, so that
+ * label based access to the columns of a record does not need to scan all keys.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class ColumnIndex extends AbstractList<String> implements RandomAccess {
+
+	private final List<String> keys;
+
+	private final Map<String, Integer> indexes;
+
+	static List<String> of(List<String> keys) {
+		if (keys instanceof ColumnIndex) {
+			return keys;
+		}
+		return new ColumnIndex(keys);
+	}
+
+	private ColumnIndex(List<String> keys) {
+		this.keys = List.copyOf(keys);
+		this.indexes = new HashMap<>((int) (this.keys.size() / 0.75f) + 1);
+		for (var i = 0; i < this.keys.size(); ++i) {
+			// Cypher does not allow duplicate column names, but in case they happen, the
+			// first one wins, as with List#indexOf
+			this.indexes.putIfAbsent(this.keys.get(i), i);
+		}
+	}
+
+	@Override
+	public String get(int index) {
+		return this.keys.get(index);
+	}
+
+	@Override
+	public int size() {
+		return this.keys.size();
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		var index = this.indexes.get(o);
+		return (index != null) ? index : -1;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return this.indexes.containsKey(o);
+	}
+
+}
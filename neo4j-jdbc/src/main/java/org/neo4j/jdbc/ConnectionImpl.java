@@ -57,6 +57,8 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -152,6 +154,12 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private final Cache<String, String> l2cache = Cache.getInstance(TRANSLATION_CACHE_SIZE);
 
+	/**
+	 * Guards the translation cache and the client info. It is not held while translating,
+	 * as translations might query the database metadata.
+	 */
+	private final Lock lock = new ReentrantLock();
+
 	private final BookmarkManager bookmarkManager;
 
 	private final AuthenticationManager authenticationManager;
@@ -160,6 +168,28 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private final int relationshipSampleSize;
 
+	private final double readAheadWatermark;
+
+	private final boolean adaptiveFetchSize;
+
+	private final long adaptiveFetchSizeMemoryLimit;
+
+	private final ResultMemoryBudget memoryBudget;
+
+	private final int batchChunkSize;
+
+	private final boolean commitBatchChunks;
+
+	private final int batchAutoFlushRows;
+
+	private final long batchAutoFlushBytes;
+
+	private final long scrollableResultSetMemoryThreshold;
+
+	private final int scrollableResultSetSegmentSize;
+
+	private final boolean allowMultiQueries;
+
 	private final String databaseName;
 
 	private final AtomicBoolean resetNeeded = new AtomicBoolean(false);
@@ -175,14 +205,19 @@ final class ConnectionImpl implements Neo4jConnection {
 	 */
 	private final Consumer<Boolean> onClose;
 
-	private final Set<ConnectionListener> listeners = new HashSet<>();
+	private final Listeners<ConnectionListener> listeners = new Listeners<>();
+
+	private final Listeners<StatementListener> statementListeners = new Listeners<>();
 
 	ConnectionImpl(URI databaseUrl, Supplier<Authentication> authenticationSupplier,
 			Function<Authentication, BoltConnection> boltConnectionSupplier, Supplier<List<Translator>> translators,
 			boolean enableSQLTranslation, boolean enableTranslationCaching, boolean rewriteBatchedStatements,
 			boolean rewritePlaceholders, BookmarkManager bookmarkManager, Map<String, Object> transactionMetadata,
-			int relationshipSampleSize, String databaseName, Consumer<Boolean> onClose,
-			List<ConnectionListener> initalListeners) {
+			int relationshipSampleSize, double readAheadWatermark, boolean adaptiveFetchSize,
+			long adaptiveFetchSizeMemoryLimit, ResultMemoryBudget memoryBudget, int batchChunkSize,
+			boolean commitBatchChunks, int batchAutoFlushRows, long batchAutoFlushBytes,
+			long scrollableResultSetMemoryThreshold, int scrollableResultSetSegmentSize, boolean allowMultiQueries,
+			String databaseName, Consumer<Boolean> onClose, List<ConnectionListener> initalListeners) {
 		Objects.requireNonNull(boltConnectionSupplier);
 
 		this.databaseUrl = Objects.requireNonNull(databaseUrl);
@@ -202,6 +237,17 @@ final class ConnectionImpl implements Neo4jConnection {
 		this.bookmarkManager = Objects.requireNonNull(bookmarkManager);
 		this.transactionMetadata.putAll(Objects.requireNonNullElseGet(transactionMetadata, Map::of));
 		this.relationshipSampleSize = relationshipSampleSize;
+		this.readAheadWatermark = readAheadWatermark;
+		this.adaptiveFetchSize = adaptiveFetchSize;
+		this.adaptiveFetchSizeMemoryLimit = adaptiveFetchSizeMemoryLimit;
+		this.memoryBudget = memoryBudget;
+		this.batchChunkSize = batchChunkSize;
+		this.commitBatchChunks = commitBatchChunks;
+		this.batchAutoFlushRows = batchAutoFlushRows;
+		this.batchAutoFlushBytes = batchAutoFlushBytes;
+		this.scrollableResultSetMemoryThreshold = scrollableResultSetMemoryThreshold;
+		this.scrollableResultSetSegmentSize = scrollableResultSetSegmentSize;
+		this.allowMultiQueries = allowMultiQueries;
 		this.databaseName = Objects.requireNonNull(databaseName);
 		this.databaseMetadData = Lazy.of(() -> {
 			var views = this.translators.resolve().stream().flatMap(t -> t.getViews().stream()).toList();
@@ -212,8 +258,10 @@ final class ConnectionImpl implements Neo4jConnection {
 	}
 
 	void notifyStatementListeners(Class<? extends Statement> type) {
-		var event = new StatementClosedEvent(this.databaseUrl, type);
-		Events.notify(this.listeners, listener -> listener.onStatementClosed(event));
+		if (!this.listeners.isEmpty()) {
+			this.listeners.notify(new StatementClosedEvent(this.databaseUrl, type),
+					ConnectionListener::onStatementClosed);
+		}
 	}
 
 	UnaryOperator<String> getTranslator(Consumer<SQLWarning> warningConsumer) throws SQLException {
@@ -239,18 +287,36 @@ final class ConnectionImpl implements Neo4jConnection {
 
 		if (this.enableTranslationCaching) {
 			return sql -> {
-				synchronized (ConnectionImpl.this) {
+				this.lock.lock();
+				try {
 					if (this.l2cache.containsKey(sql)) {
 						return this.l2cache.get(sql);
 					}
-					else {
-						var translation = sqlTranslator.apply(sql);
-						this.l2cache.put(sql, translation);
-						var event = new TranslationCachedEvent(this.l2cache.size());
-						Events.notify(this.listeners, listener -> listener.onTranslationCached(event));
-						return translation;
+				}
+				finally {
+					this.lock.unlock();
+				}
+
+				var translation = sqlTranslator.apply(sql);
+				int cacheSize;
+				this.lock.lock();
+				try {
+					// Another thread might have translated the same statement meanwhile,
+					// the translation that has been cached first wins
+					if (this.l2cache.containsKey(sql)) {
+						return this.l2cache.get(sql);
 					}
+					this.l2cache.put(sql, translation);
+					cacheSize = this.l2cache.size();
+				}
+				finally {
+					this.lock.unlock();
 				}
+				if (!this.listeners.isEmpty()) {
+					this.listeners.notify(new TranslationCachedEvent(cacheSize),
+							ConnectionListener::onTranslationCached);
+				}
+				return translation;
 			};
 		}
 		return sqlTranslator;
@@ -354,7 +420,13 @@ final class ConnectionImpl implements Neo4jConnection {
 		Exception exceptionDuringRollback = null;
 		if (this.transaction != null && this.transaction.isRunnable()) {
 			try {
-				this.transaction.rollback();
+				// A commit that has already been sent cannot be taken back
+				if (this.transaction.isCommitPending()) {
+					this.transaction.commit();
+				}
+				else {
+					this.transaction.rollback();
+				}
 			}
 			catch (Exception ex) {
 				exceptionDuringRollback = ex;
@@ -382,10 +454,9 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private void closeBoltConnections() throws InterruptedException, ExecutionException {
 		this.boltConnection.close().toCompletableFuture().get();
-		synchronized (this.boltConnectionForMetaData) {
-			if (this.boltConnectionForMetaData.isResolved()) {
-				this.boltConnectionForMetaData.resolve().close();
-			}
+		var metaDataConnection = this.boltConnectionForMetaData.getIfResolved();
+		if (metaDataConnection != null) {
+			metaDataConnection.close();
 		}
 	}
 
@@ -477,7 +548,7 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private static void assertValidResultSetTypeAndConcurrency(int resultSetType, int resultSetConcurrency)
 			throws SQLException {
-		if (resultSetType != ResultSetImpl.SUPPORTED_TYPE) {
+		if (resultSetType != ResultSetImpl.SUPPORTED_TYPE && resultSetType != ResultSetImpl.SUPPORTED_SCROLLABLE_TYPE) {
 			throw new SQLFeatureNotSupportedException("Unsupported result set type: " + resultSetType);
 		}
 		if (resultSetConcurrency != ResultSetImpl.SUPPORTED_CONCURRENCY) {
@@ -547,8 +618,15 @@ final class ConnectionImpl implements Neo4jConnection {
 		assertValidResultSetTypeAndConcurrency(resultSetType, resultSetConcurrency);
 		assertValidResultSetHoldability(resultSetHoldability);
 		var localWarnings = new Warnings();
-		return trackStatement(new StatementImpl(this, this::getTransaction, getTranslator(localWarnings), localWarnings,
-				this::notifyStatementListeners));
+		var statement = new StatementImpl(this, this::getTransaction, getTranslator(localWarnings), localWarnings,
+				this::notifyStatementListeners, this.readAheadWatermark, this.adaptiveFetchSize,
+				this.adaptiveFetchSizeMemoryLimit);
+		statement.setResultSetType(resultSetType);
+		statement.setMemoryBudget(this.memoryBudget);
+		statement.setRowBufferLimits(this.scrollableResultSetMemoryThreshold, this.scrollableResultSetSegmentSize);
+		statement.setAllowMultiQueries(this.allowMultiQueries);
+		statement.setSqlTranslation(this.enableSqlTranslation);
+		return trackStatement(statement);
 	}
 
 	@Override
@@ -560,9 +638,17 @@ final class ConnectionImpl implements Neo4jConnection {
 		assertValidResultSetTypeAndConcurrency(resultSetType, resultSetConcurrency);
 		assertValidResultSetHoldability(resultSetHoldability);
 		var localWarnings = new Warnings();
-		return trackStatement(
-				new PreparedStatementImpl(this, this::getTransaction, getTranslator(localWarnings), localWarnings,
-						this::notifyStatementListeners, this.rewritePlaceholders, this.rewriteBatchedStatements, sql));
+		var statement = new PreparedStatementImpl(this, this::getTransaction, getTranslator(localWarnings),
+				localWarnings, this::notifyStatementListeners, this.rewritePlaceholders, this.rewriteBatchedStatements,
+				this.readAheadWatermark, this.adaptiveFetchSize, this.adaptiveFetchSizeMemoryLimit, sql);
+		statement.setResultSetType(resultSetType);
+		statement.setMemoryBudget(this.memoryBudget);
+		statement.setRowBufferLimits(this.scrollableResultSetMemoryThreshold, this.scrollableResultSetSegmentSize);
+		statement.setAllowMultiQueries(this.allowMultiQueries);
+		statement.setSqlTranslation(this.enableSqlTranslation);
+		statement.setBatchChunking(this.batchChunkSize, this.commitBatchChunks);
+		statement.setBatchAutoFlush(this.batchAutoFlushRows, this.batchAutoFlushBytes);
+		return trackStatement(statement);
 	}
 
 	@Override
@@ -573,8 +659,17 @@ final class ConnectionImpl implements Neo4jConnection {
 		assertIsOpen();
 		assertValidResultSetTypeAndConcurrency(resultSetType, resultSetConcurrency);
 		assertValidResultSetHoldability(resultSetHoldability);
-		return trackStatement(CallableStatementImpl.prepareCall(this, this::getTransaction,
-				this::notifyStatementListeners, this.rewriteBatchedStatements, sql));
+		var statement = CallableStatementImpl.prepareCall(this, this::getTransaction, this::notifyStatementListeners,
+				this.rewriteBatchedStatements, this.readAheadWatermark, this.adaptiveFetchSize,
+				this.adaptiveFetchSizeMemoryLimit, sql);
+		statement.setResultSetType(resultSetType);
+		statement.setMemoryBudget(this.memoryBudget);
+		statement.setRowBufferLimits(this.scrollableResultSetMemoryThreshold, this.scrollableResultSetSegmentSize);
+		statement.setAllowMultiQueries(this.allowMultiQueries);
+		statement.setSqlTranslation(this.enableSqlTranslation);
+		statement.setBatchChunking(this.batchChunkSize, this.commitBatchChunks);
+		statement.setBatchAutoFlush(this.batchAutoFlushRows, this.batchAutoFlushBytes);
+		return trackStatement(statement);
 	}
 
 	private static void assertValidResultSetHoldability(int resultSetHoldability) throws SQLException {
@@ -635,6 +730,11 @@ final class ConnectionImpl implements Neo4jConnection {
 		if (this.closed || this.fatalException != null) {
 			return false;
 		}
+		if (this.transaction != null && this.transaction.isCommitPending()) {
+			// The outcome of the commit is evaluated when the result set is closed and a
+			// reset would interfere with it
+			return true;
+		}
 		if (this.transaction != null && this.transaction.isRunnable()) {
 			try {
 				this.transaction.runAndDiscard("RETURN 1", Collections.emptyMap(), timeout, false);
@@ -717,7 +817,8 @@ final class ConnectionImpl implements Neo4jConnection {
 		Objects.requireNonNull(properties);
 		var failedProperties = new HashMap<String, ClientInfoStatus>();
 		// It is supposed to be an atomic operation
-		synchronized (this) {
+		this.lock.lock();
+		try {
 			for (String key : properties.stringPropertyNames()) {
 				try {
 					setClientInfo0(key, properties.getProperty(key));
@@ -727,6 +828,9 @@ final class ConnectionImpl implements Neo4jConnection {
 				}
 			}
 		}
+		finally {
+			this.lock.unlock();
+		}
 		if (!failedProperties.isEmpty()) {
 			var throwable = new SQLClientInfoException(Collections.unmodifiableMap(failedProperties));
 			this.warnings.accept(new SQLWarning("There have been issues setting some properties", throwable));
@@ -888,6 +992,11 @@ final class ConnectionImpl implements Neo4jConnection {
 		if (this.fatalException != null) {
 			throw this.fatalException;
 		}
+		if (this.transaction != null && this.transaction.isAutoCommit() && this.transaction.isCommitPending()) {
+			// All results of the previous transaction have been consumed, its commit
+			// only needs to be awaited
+			this.transaction.commit();
+		}
 		if (this.transaction != null && this.transaction.isOpen()) {
 			if (this.transaction.isAutoCommit()) {
 				throw new SQLFeatureNotSupportedException("Only a single autocommit transaction is supported");
@@ -940,10 +1049,14 @@ final class ConnectionImpl implements Neo4jConnection {
 	@Override
 	public void flushTranslationCache() {
 		LOGGER.log(Level.FINER, () -> "Flushing translation cache");
-		synchronized (this) {
+		this.lock.lock();
+		try {
 			this.l2cache.flush();
 			this.translators.resolve().forEach(Translator::flushCache);
 		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 	@Override
@@ -955,6 +1068,9 @@ final class ConnectionImpl implements Neo4jConnection {
 	@Override
 	public void addListener(ConnectionListener connectionListener) {
 		this.listeners.add(Objects.requireNonNull(connectionListener));
+		if (connectionListener instanceof StatementListener statementListener) {
+			this.statementListeners.add(statementListener);
+		}
 		this.authenticationManager.addListener(connectionListener);
 	}
 
@@ -964,15 +1080,11 @@ final class ConnectionImpl implements Neo4jConnection {
 		this.trackedStatementReferences.add(new WeakReference<>(statement, this.trackedStatementReferenceQueue));
 
 		if (!this.listeners.isEmpty()) {
-			this.listeners.forEach(listener -> {
-				if (listener instanceof StatementListener statementListener) {
-					statement.addListener(statementListener);
-				}
-			});
+			statement.addListeners(this.statementListeners);
 
 			Class<? extends Statement> type = statement.getType();
 			var statementCreatedEvent = new StatementCreatedEvent(this.databaseUrl, type, statement);
-			Events.notify(this.listeners, listener -> listener.onStatementCreated(statementCreatedEvent));
+			this.listeners.notify(statementCreatedEvent, ConnectionListener::onStatementCreated);
 		}
 
 		return statement;
@@ -1062,8 +1174,7 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	@Override
 	public void setTracer(Neo4jTracer tracer) {
-		if (tracer != null
-				&& this.listeners.stream().noneMatch(l -> l instanceof Tracing t && t.usingSameTracer(tracer))) {
+		if (tracer != null && !this.listeners.anyMatch(l -> l instanceof Tracing t && t.usingSameTracer(tracer))) {
 			this.addListener(new Tracing(tracer, this));
 		}
 	}
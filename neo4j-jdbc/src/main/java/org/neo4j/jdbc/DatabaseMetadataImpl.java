@@ -592,7 +592,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	@Override
 	public boolean supportsMultipleResultSets() {
-		return false;
+		return true;
 	}
 
 	@Override
@@ -1555,12 +1555,12 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	@Override
 	public boolean supportsResultSetType(int type) {
-		return type == ResultSet.TYPE_FORWARD_ONLY;
+		return type == ResultSet.TYPE_FORWARD_ONLY || type == ResultSet.TYPE_SCROLL_INSENSITIVE;
 	}
 
 	@Override
 	public boolean supportsResultSetConcurrency(int type, int concurrency) {
-		return type == ResultSet.TYPE_FORWARD_ONLY && concurrency == ResultSet.CONCUR_READ_ONLY;
+		return supportsResultSetType(type) && concurrency == ResultSet.CONCUR_READ_ONLY;
 	}
 
 	@Override
@@ -18,19 +18,26 @@
  */
 package org.neo4j.jdbc;
 
+import java.lang.invoke.MethodHandles;
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -40,21 +47,43 @@ import org.neo4j.bolt.connection.AuthInfo;
 import org.neo4j.bolt.connection.BasicResponseHandler;
 import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.bolt.connection.NotificationConfig;
+import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.TransactionType;
 import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.message.Message;
 import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.DiscardSummary;
 import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
 import org.neo4j.bolt.connection.values.Value;
 import org.neo4j.jdbc.BoltConnectionObservations.NoopObservation;
 import org.neo4j.jdbc.Neo4jException.GQLError;
 import org.neo4j.jdbc.authn.spi.Authentication;
 import org.neo4j.jdbc.internal.bolt.BoltAdapters;
 import org.neo4j.jdbc.values.Record;
-import org.neo4j.jdbc.values.Values;
 
 final class DefaultTransactionImpl implements Neo4jTransaction {
 
+	/**
+	 * Estimated number of bytes after which a batch request is flushed. A request holds
+	 * at least one query, so a chunk of a rewritten batch that is larger than this is
+	 * sent on its own.
+	 */
+	static final long MAX_BATCH_REQUEST_BYTES = 1024L * 1024L;
+
+	/**
+	 * Estimated number of bytes of all flushed batch requests that may await their
+	 * responses at the same time. The oldest request is always allowed to be in flight,
+	 * regardless of its size.
+	 */
+	static final long MAX_BATCH_BYTES_IN_FLIGHT = 4 * MAX_BATCH_REQUEST_BYTES;
+
+	/**
+	 * Creates records that resolve their values lazily, see {@code RecordImpl}.
+	 */
+	private static final BiFunction<List<String>, List<?>, Record> LAZY_RECORD_FACTORY = lazyRecordFactory();
+
 	private final BoltConnection boltConnection;
 
 	private final FatalExceptionHandler fatalExceptionHandler;
@@ -71,7 +100,30 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 
 	private final List<RunResponse> openResults = new ArrayList<>();
 
-	private State state;
+	private final Map<RunResponse, CompletableFuture<PullResponse>> pendingPulls = new IdentityHashMap<>();
+
+	private final List<RunResponse> pendingDiscards = new ArrayList<>();
+
+	/**
+	 * All requests that have been sent and await their responses, so that they can be
+	 * cancelled together. Requests remove themselves once they are completed.
+	 */
+	private final Set<CompletableFuture<?>> pendingRequests = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The commit of an auto commit transaction, sent as soon as all of its results have
+	 * been consumed. Its outcome only changes the state of this transaction once it is
+	 * awaited by {@link #commit()} on the calling thread.
+	 */
+	private volatile CompletableFuture<CommitSummary> pendingCommit;
+
+	/**
+	 * The last asynchronous run. Its responses are applied to this transaction by the
+	 * thread completing it, so no other request may be started before it is done.
+	 */
+	private volatile CompletableFuture<?> asyncRequest;
+
+	private volatile State state;
 
 	private SQLException exception;
 
@@ -116,22 +168,50 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 	public RunAndPullResponses runAndPull(String query, Map<String, Object> parameters, int fetchSize, int timeout)
 			throws SQLException {
 		assertNoException();
+		assertNoAsyncRequest();
 		assertRunnableState();
+		assertNoPendingCommit();
+
+		return onRunAndPull(execute(sendRunAndPull(query, parameters, fetchSize), timeout));
+	}
+
+	@Override
+	public CompletionStage<RunAndPullResponses> runAndPullAsync(String query, Map<String, Object> parameters,
+			int fetchSize, int timeout) {
+		try {
+			assertNoException();
+			assertNoAsyncRequest();
+			assertRunnableState();
+			assertNoPendingCommit();
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+
+		return trackAsyncRequest(
+				executeAsync(sendRunAndPull(query, parameters, fetchSize), timeout).thenApply(this::onRunAndPull));
+	}
 
+	private CompletableFuture<RunAndPullResponses> sendRunAndPull(String query, Map<String, Object> parameters,
+			int fetchSize) {
 		var handler = new BasicResponseHandler();
-		var responsesFuture = this.beginPipelinedStage.thenCompose(ignored -> {
-			var messages = List.of(Messages.run(query, BoltAdapters.adaptMap(parameters)),
-					Messages.pull(-1, fetchSize));
-			return this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE);
-		})
+		var messages = new ArrayList<Message>(this.pendingDiscards.size() + 2);
+		appendPendingDiscards(messages);
+		messages.add(Messages.run(query, BoltAdapters.adaptMap(parameters)));
+		messages.add(Messages.pull(-1, fetchSize));
+		return this.beginPipelinedStage
+			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
 			.thenCompose(ignored -> handler.summaries())
 			.thenApply(DefaultTransactionImpl::asRunAndPullResponses)
 			.toCompletableFuture();
-		var responses = execute(responsesFuture, timeout);
+	}
+
+	private RunAndPullResponses onRunAndPull(RunAndPullResponses responses) {
 		if (responses.pullResponse().hasMore()) {
 			this.openResults.add(responses.runResponse());
 		}
 		this.state = State.READY;
+		commitIfConsumed();
 		return responses;
 	}
 
@@ -139,41 +219,205 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 	public DiscardResponse runAndDiscard(String query, Map<String, Object> parameters, int timeout, boolean commit)
 			throws SQLException {
 		assertNoException();
+		assertNoAsyncRequest();
 		assertRunnableState();
+		assertNoPendingCommit();
+
+		return onRunAndDiscard(execute(sendRunAndDiscard(query, parameters, commit), timeout), commit);
+	}
+
+	@Override
+	public CompletionStage<DiscardResponse> runAndDiscardAsync(String query, Map<String, Object> parameters,
+			int timeout, boolean commit) {
+		try {
+			assertNoException();
+			assertNoAsyncRequest();
+			assertRunnableState();
+			assertNoPendingCommit();
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+
+		return trackAsyncRequest(executeAsync(sendRunAndDiscard(query, parameters, commit), timeout)
+			.thenApply(response -> onRunAndDiscard(response, commit)));
+	}
+
+	private <T> CompletableFuture<T> trackAsyncRequest(CompletableFuture<T> request) {
+		this.asyncRequest = request;
+		return request;
+	}
 
+	private CompletableFuture<DiscardResponse> sendRunAndDiscard(String query, Map<String, Object> parameters,
+			boolean commit) {
 		var handler = new BasicResponseHandler();
-		var responsesFuture = this.beginPipelinedStage.thenCompose(ignored -> {
-			var messages = new ArrayList<Message>(3);
-			messages.add(Messages.run(query, BoltAdapters.adaptMap(parameters)));
-			messages.add(Messages.discard(-1, -1));
-			if (commit) {
-				messages.add(Messages.commit());
-			}
-			return this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE);
-		})
+		var messages = new ArrayList<Message>(this.pendingDiscards.size() + 3);
+		appendPendingDiscards(messages);
+		messages.add(Messages.run(query, BoltAdapters.adaptMap(parameters)));
+		messages.add(Messages.discard(-1, -1));
+		if (commit) {
+			messages.add(Messages.commit());
+		}
+		return this.beginPipelinedStage
+			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
 			.thenCompose(ignored -> handler.summaries())
 			.thenApply(DefaultTransactionImpl::asDiscardResponse)
 			.toCompletableFuture();
-		var response = execute(responsesFuture, timeout);
+	}
+
+	private DiscardResponse onRunAndDiscard(DiscardResponse response, boolean commit) {
 		if (!State.COMMITTED.equals(this.state)) {
 			this.state = commit ? State.COMMITTED : State.READY;
 		}
 		return response;
 	}
 
+	@Override
+	public List<DiscardResponse> runAndDiscardAll(List<BatchQuery> queries, int timeout, boolean commit)
+			throws SQLException {
+		assertNoException();
+		assertNoAsyncRequest();
+		assertRunnableState();
+		assertNoPendingCommit();
+
+		// Requests are flushed once they carry enough bytes and only a bounded number of
+		// bytes is kept in flight, so that large batches are never fully materialized as
+		// Bolt messages
+		var requests = new ArrayDeque<BatchRequest>();
+		var responses = new ArrayList<DiscardResponse>(queries.size());
+		var messages = new ArrayList<Message>();
+		// The summaries of pending discards are reported to the first handler and must
+		// be skipped
+		var discardSummariesToSkip = this.pendingDiscards.size();
+		appendPendingDiscards(messages);
+		var requestBytes = 0L;
+		var bytesInFlight = 0L;
+		for (var it = queries.iterator(); it.hasNext();) {
+			var query = it.next();
+			messages.add(Messages.run(query.query(), BoltAdapters.adaptMap(query.parameters())));
+			messages.add(Messages.discard(-1, -1));
+			requestBytes += query.query().length() + query.estimatedSize();
+			var last = !it.hasNext();
+			if (last && commit) {
+				messages.add(Messages.commit());
+			}
+			if (last || requestBytes >= MAX_BATCH_REQUEST_BYTES) {
+				while (!requests.isEmpty() && bytesInFlight + requestBytes > MAX_BATCH_BYTES_IN_FLIGHT) {
+					var request = requests.poll();
+					responses.addAll(execute(request.responses(), timeout));
+					bytesInFlight -= request.estimatedSize();
+				}
+				requests.add(new BatchRequest(sendBatchRequest(messages, discardSummariesToSkip), requestBytes));
+				bytesInFlight += requestBytes;
+				messages = new ArrayList<>();
+				discardSummariesToSkip = 0;
+				requestBytes = 0;
+			}
+		}
+		while (!requests.isEmpty()) {
+			responses.addAll(execute(requests.poll().responses(), timeout));
+		}
+		if (!State.COMMITTED.equals(this.state)) {
+			this.state = commit ? State.COMMITTED : State.READY;
+		}
+		return responses;
+	}
+
+	@Override
+	public List<RunAndPullResponses> runAndPullAll(List<BatchQuery> queries, int fetchSize, int timeout)
+			throws SQLException {
+		assertNoException();
+		assertNoAsyncRequest();
+		assertRunnableState();
+		assertNoPendingCommit();
+
+		var handler = new ScriptResponseHandler();
+		var messages = new ArrayList<Message>(this.pendingDiscards.size() + 2 * queries.size());
+		appendPendingDiscards(messages);
+		for (var query : queries) {
+			messages.add(Messages.run(query.query(), BoltAdapters.adaptMap(query.parameters())));
+			messages.add(Messages.pull(-1, fetchSize));
+		}
+		var responses = execute(this.beginPipelinedStage
+			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
+			.thenCompose(ignored -> handler.completion())
+			.toCompletableFuture(), timeout);
+		for (var response : responses) {
+			if (response.pullResponse().hasMore()) {
+				this.openResults.add(response.runResponse());
+			}
+		}
+		this.state = State.READY;
+		commitIfConsumed();
+		return responses;
+	}
+
+	private CompletableFuture<List<DiscardResponse>> sendBatchRequest(List<Message> messages,
+			int discardSummariesToSkip) {
+		var handler = new BatchResponseHandler(discardSummariesToSkip);
+		return track(this.beginPipelinedStage
+			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
+			.thenCompose(ignored -> handler.completion())
+			.whenComplete((completedHandler, error) -> {
+				if (completedHandler != null) {
+					updateBookmarks(completedHandler.commitSummary);
+				}
+			})
+			.thenApply(completedHandler -> completedHandler.discardSummaries.stream()
+				.map(summary -> (DiscardResponse) new DiscardResponseImpl(asResultSummary(summary.metadata())))
+				.toList())
+			.toCompletableFuture());
+	}
+
 	@Override
 	public PullResponse pull(RunResponse runResponse, long request) throws SQLException {
 		assertNoException();
-		if (!State.READY.equals(this.state)) {
-			throw new Neo4jException(Neo4jException.withReason(
-					String.format("The requested action is not supported in %s transaction state", this.state)));
+		assertNoAsyncRequest();
+		assertReadyState();
+		var responseFuture = this.pendingPulls.remove(runResponse);
+		if (responseFuture == null) {
+			responseFuture = sendPull(runResponse, request);
+		}
+		var pullResponse = awaitPull(runResponse, responseFuture);
+		commitIfConsumed();
+		return pullResponse;
+	}
+
+	@Override
+	public void pullAhead(RunResponse runResponse, long request) throws SQLException {
+		assertNoException();
+		assertNoAsyncRequest();
+		assertReadyState();
+		if (!this.pendingPulls.containsKey(runResponse)) {
+			this.pendingPulls.put(runResponse, sendPull(runResponse, request));
 		}
+	}
+
+	@Override
+	public void discard(RunResponse runResponse) throws SQLException {
+		assertNoException();
+		assertNoAsyncRequest();
+		assertReadyState();
+		var pendingPull = this.pendingPulls.remove(runResponse);
+		if (pendingPull != null) {
+			awaitPull(runResponse, pendingPull);
+		}
+		if (this.openResults.remove(runResponse)) {
+			this.pendingDiscards.add(runResponse);
+		}
+	}
+
+	private CompletableFuture<PullResponse> sendPull(RunResponse runResponse, long request) {
 		var handler = new BasicResponseHandler();
-		var responseFuture = this.boltConnection
+		return track(this.boltConnection
 			.writeAndFlush(handler, Messages.pull(runResponse.queryId(), request), NoopObservation.INSTANCE)
 			.thenCompose(ignored -> handler.summaries())
 			.thenApply(summaries -> asPullResponse(runResponse.keys(), summaries.valuesList(), summaries.pullSummary()))
-			.toCompletableFuture();
+			.toCompletableFuture());
+	}
+
+	private PullResponse awaitPull(RunResponse runResponse, CompletableFuture<PullResponse> responseFuture)
+			throws SQLException {
 		var pullResponse = execute(responseFuture, 0);
 		if (!pullResponse.hasMore()) {
 			this.openResults.remove(runResponse);
@@ -181,31 +425,69 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		return pullResponse;
 	}
 
+	/**
+	 * Waits for all pulls that have been sent ahead of time, so that we know which
+	 * results are still open before discarding them.
+	 * @throws SQLException if any of the pending pulls failed
+	 */
+	private void awaitPendingPulls() throws SQLException {
+		var pending = new ArrayList<>(this.pendingPulls.entrySet());
+		this.pendingPulls.clear();
+		for (var entry : pending) {
+			awaitPull(entry.getKey(), entry.getValue());
+		}
+	}
+
 	@Override
 	public void commit() throws SQLException {
 		assertNoException();
-		assertRunnableState();
+		assertNoAsyncRequest();
+		// A pipelined commit might have been completed already, which is fine
+		var responsesFuture = this.pendingCommit;
+		if (responsesFuture == null) {
+			assertRunnableState();
+			awaitPendingPulls();
+			var messages = new ArrayList<Message>(this.pendingDiscards.size() + this.openResults.size() + 1);
+			appendDiscards(messages);
+			responsesFuture = sendCommit(messages);
+		}
+		this.pendingCommit = null;
+		// A failing commit fails this transaction and records the exception
+		var commitSummary = execute(responsesFuture, 0);
+		this.state = State.COMMITTED;
+		this.openResults.clear();
+		updateBookmarks(commitSummary);
+	}
+
+	/**
+	 * Sends the commit of an auto commit transaction right after the last of its results
+	 * has been consumed, instead of waiting for the result set to be closed. The
+	 * transaction is done at that point and committing it early takes the round trip for
+	 * the commit off the path of the calling thread. The outcome of the commit is
+	 * evaluated by the next call to {@link #commit()}.
+	 */
+	private void commitIfConsumed() {
+		if (this.autoCommit && this.pendingCommit == null && this.openResults.isEmpty()
+				&& this.pendingDiscards.isEmpty() && this.pendingPulls.isEmpty()) {
+			this.pendingCommit = sendCommit(new ArrayList<>(1));
+		}
+	}
 
+	private CompletableFuture<CommitSummary> sendCommit(List<Message> messages) {
 		var handler = new BasicResponseHandler();
-		var messages = new ArrayList<Message>(this.openResults.size() + 1);
-		appendDiscards(messages);
 		messages.add(Messages.commit());
-		var responsesFuture = this.beginPipelinedStage
+		return this.beginPipelinedStage
 			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
 			.thenCompose(ignored -> handler.summaries())
 			.thenApply(BasicResponseHandler.Summaries::commitSummary)
-			.whenComplete((response, error) -> {
-				if (!(response == null || response.bookmark().orElse("").isBlank())) {
-					this.bookmarkManager.updateBookmarks(Function.identity(), this.usedBookmarks,
-							List.of(response.bookmark().orElse("")));
-				}
-				if (error == null) {
-					this.state = State.COMMITTED;
-				}
-			})
 			.toCompletableFuture();
-		execute(responsesFuture, 0);
-		this.openResults.clear();
+	}
+
+	private void updateBookmarks(CommitSummary commitSummary) {
+		if (!(commitSummary == null || commitSummary.bookmark().orElse("").isBlank())) {
+			this.bookmarkManager.updateBookmarks(Function.identity(), this.usedBookmarks,
+					List.of(commitSummary.bookmark().orElse("")));
+		}
 	}
 
 	@Override
@@ -215,10 +497,16 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 			return;
 		}
 		assertNoException();
+		assertNoAsyncRequest();
+		if (this.pendingCommit != null) {
+			throw new Neo4jException(GQLError.$40N01.withTemplatedMessage(
+					"The transaction has already been committed after all of its results have been consumed"));
+		}
 		assertRunnableState();
+		awaitPendingPulls();
 
 		var handler = new BasicResponseHandler();
-		var messages = new ArrayList<Message>(this.openResults.size() + 1);
+		var messages = new ArrayList<Message>(this.pendingDiscards.size() + this.openResults.size() + 1);
 		appendDiscards(messages);
 		messages.add(Messages.rollback());
 		var responsesFuture = this.beginPipelinedStage
@@ -236,6 +524,11 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		return this.autoCommit;
 	}
 
+	@Override
+	public boolean isCommitPending() {
+		return this.pendingCommit != null && State.READY.equals(this.state);
+	}
+
 	@Override
 	public State getState() {
 		return this.state;
@@ -249,13 +542,51 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		this.onFailedCallback.accept(this.state);
 	}
 
+	@Override
+	public void cancel() {
+		var requests = List.copyOf(this.pendingRequests);
+		if (requests.isEmpty()) {
+			return;
+		}
+		// The RESET interrupts the query on the server and the connection is ready to be
+		// used again once it has been processed. The waiting thread is released as soon
+		// as the RESET is on the wire, the responses to all interrupted requests are
+		// ignored.
+		this.boltConnection.writeAndFlush(new BasicResponseHandler(), Messages.reset(), NoopObservation.INSTANCE)
+			.whenComplete((ignored, error) -> {
+				if (error != null) {
+					ConnectionImpl.LOGGER.log(Level.WARNING, "Could not send RESET to cancel request", error);
+				}
+				requests.forEach(request -> request.cancel(false));
+			});
+	}
+
+	boolean hasPendingRequests() {
+		return !this.pendingRequests.isEmpty();
+	}
+
+	/**
+	 * Keeps track of a request until it is completed, so that it can be cancelled.
+	 * @param request the request that has been sent
+	 * @param <T> the type of the response
+	 * @return the request
+	 */
+	private <T> CompletableFuture<T> track(CompletableFuture<T> request) {
+		if (this.pendingRequests.add(request)) {
+			request.whenComplete((ignored, error) -> this.pendingRequests.remove(request));
+		}
+		return request;
+	}
+
 	private <T> T execute(CompletableFuture<T> future, int timeout) throws SQLException {
+		track(future);
+		// Waiting for the future parks a virtual thread without pinning it to its
+		// carrier, as long as no monitor is held by the caller
 		try {
 			return (timeout > 0) ? future.get(timeout, TimeUnit.SECONDS) : future.get();
 		}
-		catch (TimeoutException ignored) {
-			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
-			throw new SQLTimeoutException("The query timeout has been exceeded");
+		catch (CancellationException | TimeoutException ex) {
+			throw asSQLException(ex);
 		}
 		catch (InterruptedException ex) {
 			Thread.currentThread().interrupt();
@@ -263,37 +594,115 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 			throw new Neo4jException(Neo4jException.withInternal(ex, "The thread has been interrupted."));
 		}
 		catch (ExecutionException ex) {
-			var cause = ex.getCause();
-			if (cause == null) {
-				cause = ex;
-			}
-
-			var sqlException = new Neo4jException(
-					Neo4jException.withMessageAndCause("An error occurred while handling request", cause));
+			throw asSQLException((ex.getCause() != null) ? ex.getCause() : ex);
+		}
+	}
 
-			if (cause instanceof BoltFailureException) {
-				fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
+	/**
+	 * Asynchronous variant of {@link #execute(CompletableFuture, int)}, failures are
+	 * translated the same way and the returned stage completes exceptionally with the
+	 * resulting {@link SQLException}.
+	 * @param future the request
+	 * @param timeout the timeout in seconds, {@literal 0} for none
+	 * @param <T> the type of the response
+	 * @return a stage completing with the response
+	 */
+	private <T> CompletableFuture<T> executeAsync(CompletableFuture<T> future, int timeout) {
+		var request = (timeout > 0) ? track(future).copy().orTimeout(timeout, TimeUnit.SECONDS) : track(future);
+		return request.handle((response, error) -> {
+			if (error == null) {
+				return response;
 			}
-			else {
-				fail(new Neo4jException(GQLError.$08000.withMessage("The connection is no longer valid")));
-				this.fatalExceptionHandler.handle(this.exception, sqlException);
+			var cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause()
+					: error;
+			SQLException sqlException;
+			try {
+				sqlException = asSQLException(cause);
 			}
-			throw sqlException;
+			catch (SQLException ex) {
+				sqlException = ex;
+			}
+			throw new CompletionException(sqlException);
+		});
+	}
+
+	/**
+	 * Puts this transaction into a failed state according to the failure of a request.
+	 * @param cause the failure of the request
+	 * @return the exception to report to the caller
+	 * @throws SQLException if the transaction cannot be failed
+	 */
+	private SQLException asSQLException(Throwable cause) throws SQLException {
+		if (cause instanceof CancellationException) {
+			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
+			return new Neo4jException(Neo4jException.withReason("The request has been cancelled"));
+		}
+		if (cause instanceof TimeoutException) {
+			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
+			return new SQLTimeoutException("The query timeout has been exceeded");
+		}
+
+		var sqlException = new Neo4jException(
+				Neo4jException.withMessageAndCause("An error occurred while handling request", cause));
+
+		if (cause instanceof BoltFailureException) {
+			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
 		}
+		else {
+			fail(new Neo4jException(GQLError.$08000.withMessage("The connection is no longer valid")));
+			this.fatalExceptionHandler.handle(this.exception, sqlException);
+		}
+		return sqlException;
 	}
 
 	private void appendDiscards(List<Message> messages) {
+		appendPendingDiscards(messages);
 		for (var runResponse : this.openResults) {
 			messages.add(Messages.discard(runResponse.queryId(), -1));
 		}
 	}
 
+	/**
+	 * Appends the discards of results that have been abandoned since the last request, so
+	 * that they are pipelined with the next request instead of requiring a round trip of
+	 * their own.
+	 * @param messages the messages of the next request
+	 */
+	private void appendPendingDiscards(List<Message> messages) {
+		for (var runResponse : this.pendingDiscards) {
+			messages.add(Messages.discard(runResponse.queryId(), -1));
+		}
+		this.pendingDiscards.clear();
+	}
+
 	private void assertNoException() throws SQLException {
 		if (this.exception != null) {
 			throw this.exception;
 		}
 	}
 
+	private void assertReadyState() throws SQLException {
+		if (!State.READY.equals(this.state)) {
+			throw new Neo4jException(Neo4jException.withReason(
+					String.format("The requested action is not supported in %s transaction state", this.state)));
+		}
+	}
+
+	private void assertNoAsyncRequest() throws SQLException {
+		var request = this.asyncRequest;
+		if (request != null && !request.isDone()) {
+			throw new Neo4jException(Neo4jException
+				.withReason("The requested action is not supported while an asynchronous request is in flight"));
+		}
+	}
+
+	private void assertNoPendingCommit() throws SQLException {
+		if (this.pendingCommit != null) {
+			throw new Neo4jException(Neo4jException
+				.withReason("The requested action is not supported after the transaction has been committed"));
+		}
+	}
+
 	private void assertRunnableState() throws SQLException {
 		if (!isRunnable()) {
 			throw new Neo4jException(Neo4jException.withReason(
@@ -302,22 +711,39 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 	}
 
 	private static RunAndPullResponses asRunAndPullResponses(BasicResponseHandler.Summaries summaries) {
-		return new RunAndPullResponses(asRunResponse(summaries),
-				asPullResponse(summaries.runSummary().keys(), summaries.valuesList(), summaries.pullSummary()));
+		var runResponse = asRunResponse(summaries);
+		return new RunAndPullResponses(runResponse,
+				asPullResponse(runResponse.keys(), summaries.valuesList(), summaries.pullSummary()));
 	}
 
 	private static RunResponse asRunResponse(BasicResponseHandler.Summaries summaries) {
-		return new RunResponseImpl(summaries.runSummary().queryId(), summaries.runSummary().keys());
+		return new RunResponseImpl(summaries.runSummary().queryId(), ColumnIndex.of(summaries.runSummary().keys()));
 	}
 
 	private static PullResponse asPullResponse(List<String> keys, List<List<Value>> valuesList,
 			PullSummary pullSummary) {
+		// The size is sampled from the Bolt values, so that the first record doesn't need
+		// to be converted first
+		var estimatedRecordSize = valuesList.isEmpty() ? 0 : AdaptiveFetchSize.estimateSize(valuesList.get(0));
 		return new PullResponseImpl(pullSummary.hasMore(), valuesList.stream().map(v -> asRecord(keys, v)).toList(),
-				asResultSummary(pullSummary.metadata()));
+				asResultSummary(pullSummary.metadata()), estimatedRecordSize);
 	}
 
 	private static Record asRecord(List<String> keys, List<Value> values) {
-		return Record.of(keys, values.stream().map(Values::value).toArray(org.neo4j.jdbc.values.Value[]::new));
+		return LAZY_RECORD_FACTORY.apply(keys, values);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BiFunction<List<String>, List<?>, Record> lazyRecordFactory() {
+		try {
+			var targetClass = Class.forName("org.neo4j.jdbc.values.RecordImpl");
+			var vh = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup())
+				.findStaticVarHandle(targetClass, "LAZY_FACTORY", BiFunction.class);
+			return (BiFunction<List<String>, List<?>, Record>) vh.get();
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
 	}
 
 	private static ResultSummary asResultSummary(Map<String, Value> metadata) {
@@ -343,8 +769,11 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 	private record RunResponseImpl(long queryId, List<String> keys) implements RunResponse {
 	}
 
-	private record PullResponseImpl(boolean hasMore, List<Record> records,
-			ResultSummary summary) implements PullResponse {
+	private record BatchRequest(CompletableFuture<List<DiscardResponse>> responses, long estimatedSize) {
+	}
+
+	private record PullResponseImpl(boolean hasMore, List<Record> records, ResultSummary summary,
+			long estimatedRecordSize) implements PullResponse {
 		@Override
 		public Optional<ResultSummary> resultSummary() {
 			return Optional.ofNullable(this.summary);
@@ -358,4 +787,120 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		}
 	}
 
+	/**
+	 * Collects the records and summaries of all queries of a script, whereas the
+	 * {@link BasicResponseHandler} only retains the last summary of each type. Summaries
+	 * of pending discards sent with the script are ignored.
+	 */
+	private static final class ScriptResponseHandler implements ResponseHandler {
+
+		private final CompletableFuture<List<RunAndPullResponses>> completion = new CompletableFuture<>();
+
+		private final List<RunAndPullResponses> responses = new ArrayList<>();
+
+		private RunSummary runSummary;
+
+		private List<List<Value>> valuesList = new ArrayList<>();
+
+		private Throwable error;
+
+		CompletionStage<List<RunAndPullResponses>> completion() {
+			return this.completion;
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			if (this.error == null) {
+				this.error = throwable;
+			}
+		}
+
+		@Override
+		public void onRunSummary(RunSummary summary) {
+			this.runSummary = summary;
+			this.valuesList = new ArrayList<>();
+		}
+
+		@Override
+		public void onRecord(List<Value> fields) {
+			this.valuesList.add(fields);
+		}
+
+		@Override
+		public void onPullSummary(PullSummary summary) {
+			var runResponse = new RunResponseImpl(this.runSummary.queryId(), ColumnIndex.of(this.runSummary.keys()));
+			this.responses.add(new RunAndPullResponses(runResponse,
+					asPullResponse(runResponse.keys(), this.valuesList, summary)));
+		}
+
+		@Override
+		public void onComplete() {
+			if (this.error != null) {
+				this.completion.completeExceptionally(this.error);
+			}
+			else {
+				this.completion.complete(this.responses);
+			}
+		}
+
+	}
+
+	/**
+	 * Collects the summaries of all discards of a batch, whereas the
+	 * {@link BasicResponseHandler} only retains the last summary of each type.
+	 */
+	private static final class BatchResponseHandler implements ResponseHandler {
+
+		private final CompletableFuture<BatchResponseHandler> completion = new CompletableFuture<>();
+
+		private final List<DiscardSummary> discardSummaries = new ArrayList<>();
+
+		private int discardSummariesToSkip;
+
+		private CommitSummary commitSummary;
+
+		private Throwable error;
+
+		BatchResponseHandler(int discardSummariesToSkip) {
+			this.discardSummariesToSkip = discardSummariesToSkip;
+		}
+
+		CompletionStage<BatchResponseHandler> completion() {
+			return this.completion;
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			if (this.error == null) {
+				this.error = throwable;
+			}
+		}
+
+		@Override
+		public void onDiscardSummary(DiscardSummary summary) {
+			if (this.discardSummariesToSkip > 0) {
+				--this.discardSummariesToSkip;
+			}
+			else {
+				this.discardSummaries.add(summary);
+			}
+		}
+
+		@Override
+		public void onCommitSummary(CommitSummary summary) {
+			this.commitSummary = summary;
+		}
+
+		@Override
+		public void onComplete() {
+			if (this.error != null) {
+				this.completion.completeExceptionally(this.error);
+			}
+			else {
+				this.completion.complete(this);
+			}
+		}
+
+	}
+
 }
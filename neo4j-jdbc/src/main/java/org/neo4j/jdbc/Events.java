@@ -41,12 +41,16 @@ final class Events {
 				consumer.accept(listener);
 			}
 			catch (Exception ex) {
-				LOGGER.log(Level.WARNING, ex,
-						() -> "Could not notify listener %s".formatted(listener.getClass().getCanonicalName()));
+				logFailedNotification(listener, ex);
 			}
 		});
 	}
 
+	static void logFailedNotification(Object listener, Exception ex) {
+		LOGGER.log(Level.WARNING, ex,
+				() -> "Could not notify listener %s".formatted(listener.getClass().getCanonicalName()));
+	}
+
 	/**
 	 * Strips parameters away from the URL.
 	 * @param jdbcUrl the URL to clean
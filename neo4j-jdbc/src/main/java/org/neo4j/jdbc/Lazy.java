@@ -18,10 +18,14 @@
  */
 package org.neo4j.jdbc;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
- * Utility class for lazily and thread safe resolving a supplier of things.
+ * Utility class for lazily and thread safe resolving a supplier of things. Suppliers
+ * might do I/O, so a {@link Lock} is used instead of a monitor which would pin a virtual
+ * thread to its carrier while waiting.
  *
  * @param <T> the type of things to be resolved
  * @author Michael J. Simons
@@ -31,6 +35,8 @@ final class Lazy<T> {
 
 	private final ThrowingSupplier<T> supplier;
 
+	private final Lock lock = new ReentrantLock();
+
 	private volatile T resolved;
 
 	static <T> Lazy<T> of(ThrowingSupplier<T> supplier) {
@@ -49,7 +55,8 @@ final class Lazy<T> {
 
 		T result = this.resolved;
 		if (result == null) {
-			synchronized (this) {
+			this.lock.lock();
+			try {
 				result = this.resolved;
 				if (result == null) {
 					try {
@@ -64,6 +71,9 @@ final class Lazy<T> {
 					result = this.resolved;
 				}
 			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 		return result;
 	}
@@ -81,20 +91,38 @@ final class Lazy<T> {
 	}
 
 	/**
-	 * This method is not synchronized and must be used in a {@code synchronized} block on
-	 * this {@link Lazy}.
-	 * @return true if this instance has been resolved
+	 * {@return true if this instance has been resolved}
 	 */
 	boolean isResolved() {
 		return this.resolved != null;
 	}
 
 	/**
-	 * Forgets the resolved value. This method is not synchronized and must be used in a
-	 * {@code synchronized} block on this {@link Lazy}.
+	 * Waits for a resolution in progress, but does not start one.
+	 * @return the resolved value or {@literal null} if this instance has not been
+	 * resolved
+	 */
+	T getIfResolved() {
+		this.lock.lock();
+		try {
+			return this.resolved;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Forgets the resolved value.
 	 */
 	void forget() {
-		this.resolved = null;
+		this.lock.lock();
+		try {
+			this.resolved = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A copy-on-write set of listeners of one type. Listeners are kept in an array that is
+ * replaced on every registration, so that dispatching an event does neither require
+ * locking nor allocating an iterator, and checking whether anyone is listening boils down
+ * to a single length check. Registrations are rare compared to events, so the copying is
+ * of no concern.
+ *
+ * @param <T> the type of the listeners
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class Listeners<T> {
+
+	private static final Object[] NONE = new Object[0];
+
+	private volatile Object[] elements = NONE;
+
+	/**
+	 * Adds the given listener, unless an equal listener has already been added.
+	 * @param listener the listener to add
+	 */
+	synchronized void add(T listener) {
+		Objects.requireNonNull(listener);
+		var current = this.elements;
+		for (var element : current) {
+			if (element.equals(listener)) {
+				return;
+			}
+		}
+		var newElements = Arrays.copyOf(current, current.length + 1);
+		newElements[current.length] = listener;
+		this.elements = newElements;
+	}
+
+	/**
+	 * Adds all listeners of the other set. If this set is empty, the underlying array is
+	 * shared and nothing is copied.
+	 * @param other the listeners to add
+	 */
+	synchronized void addAll(Listeners<? extends T> other) {
+		var others = other.elements;
+		if (this.elements.length == 0) {
+			this.elements = others;
+			return;
+		}
+		for (var element : others) {
+			@SuppressWarnings("unchecked")
+			var listener = (T) element;
+			add(listener);
+		}
+	}
+
+	/**
+	 * {@return whether no listener has been added}
+	 */
+	boolean isEmpty() {
+		return this.elements.length == 0;
+	}
+
+	/**
+	 * Performs the given action for each listener.
+	 * @param action the action to perform
+	 */
+	@SuppressWarnings("unchecked")
+	void forEach(Consumer<? super T> action) {
+		for (var element : this.elements) {
+			action.accept((T) element);
+		}
+	}
+
+	/**
+	 * {@return whether any of the listeners matches the given predicate}
+	 * @param predicate the predicate to evaluate
+	 */
+	@SuppressWarnings("unchecked")
+	boolean anyMatch(Predicate<? super T> predicate) {
+		for (var element : this.elements) {
+			if (predicate.test((T) element)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Notifies all listeners about the given event. The action is expected to be a
+	 * non-capturing method reference, so that no allocation happens per listener.
+	 * Exceptions thrown by a listener are logged and don't prevent other listeners from
+	 * being notified.
+	 * @param event the event to dispatch
+	 * @param action the callback to invoke on each listener
+	 * @param <E> the type of the event
+	 */
+	@SuppressWarnings("unchecked")
+	<E> void notify(E event, BiConsumer<? super T, ? super E> action) {
+		for (var element : this.elements) {
+			try {
+				action.accept((T) element, event);
+			}
+			catch (Exception ex) {
+				Events.logFailedNotification(element, ex);
+			}
+		}
+	}
+
+}
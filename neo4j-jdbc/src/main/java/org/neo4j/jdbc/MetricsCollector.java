@@ -63,4 +63,12 @@ interface MetricsCollector extends DriverListener, ConnectionListener, Statement
 		return Optional.of(MetricsCollectorImpl.of((MeterRegistry) globalRegistry));
 	}
 
+	/**
+	 * Registers the memory budget of a driver so that its limit and usage can be
+	 * observed.
+	 * @param resultMemoryBudget the budget to observe
+	 */
+	default void register(ResultMemoryBudget resultMemoryBudget) {
+	}
+
 }
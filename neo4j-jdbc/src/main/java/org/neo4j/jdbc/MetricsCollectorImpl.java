@@ -121,6 +121,27 @@ final class MetricsCollectorImpl implements MetricsCollector {
 		this.cachedTranslations.set(event.cacheSize());
 	}
 
+	@Override
+	public void register(ResultMemoryBudget resultMemoryBudget) {
+		// Each driver has its own budget, tagging them keeps several drivers sharing one
+		// registry apart
+		var tags = List.of(Tag.of("driver", resultMemoryBudget.id()));
+		if (this.meterRegistry.find("org.neo4j.jdbc.result-memory.budget").tags(tags).gauge() == null) {
+			Gauge.builder("org.neo4j.jdbc.result-memory.budget", resultMemoryBudget, ResultMemoryBudget::limit)
+				.description("The budget in bytes for buffered result batches, 0 if there is no limit")
+				.tags(tags)
+				.baseUnit("bytes")
+				.register(this.meterRegistry);
+		}
+		if (this.meterRegistry.find("org.neo4j.jdbc.result-memory.used").tags(tags).gauge() == null) {
+			Gauge.builder("org.neo4j.jdbc.result-memory.used", resultMemoryBudget, ResultMemoryBudget::used)
+				.description("The estimated number of bytes retained by buffered result batches")
+				.tags(tags)
+				.baseUnit("bytes")
+				.register(this.meterRegistry);
+		}
+	}
+
 	@Override
 	public void onExecutionEnded(ExecutionEndedEvent event) {
 		var uri = Events.cleanURL(event.uri()).toString();
@@ -231,6 +231,111 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 */
 	public static final String PROPERTY_RELATIONSHIP_SAMPLE_SIZE = "relationshipSampleSize";
 
+	/**
+	 * Use this to configure the fraction of a batch of records that must have been
+	 * consumed from a result set, before the next batch is requested from the server in
+	 * the background. Valid values are between {@literal 0} (exclusive) and {@literal 1}
+	 * (inclusive), for example {@literal 0.5} will request the next batch once half of
+	 * the current batch has been read. Defaults to {@literal 0}, which disables reading
+	 * ahead.
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_READ_AHEAD_WATERMARK = "readAheadWatermark";
+
+	/**
+	 * Set this to {@literal "true"} to let the driver adapt the number of records pulled
+	 * with each batch of a result set instead of using the configured fetch size. The
+	 * driver will start with a small batch and then grow or shrink the batches depending
+	 * on the measured latency and the size of the records received. Defaults to
+	 * {@literal "false"}.
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_ADAPTIVE_FETCH_SIZE = "adaptiveFetchSize";
+
+	/**
+	 * The upper bound in bytes of the memory a single batch of records may take when
+	 * {@link #PROPERTY_ADAPTIVE_FETCH_SIZE adaptive fetch size} is enabled. Defaults to
+	 * {@literal 16777216} (16 MiB).
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_ADAPTIVE_FETCH_SIZE_MEMORY_LIMIT = "adaptiveFetchSizeMemoryLimit";
+
+	/**
+	 * The budget in bytes for the estimated memory retained by the buffered batches of
+	 * all open result sets of this driver. When the budget is under pressure, the driver
+	 * pulls smaller batches and delays pulls instead of failing. The budget is shared by
+	 * all connections of a driver instance and configured by the first connection that
+	 * specifies it; connecting with a different value afterwards fails. Defaults to
+	 * {@literal 0}, which means that memory is accounted for but not limited.
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_RESULT_MEMORY_BUDGET = "resultMemoryBudget";
+
+	/**
+	 * The maximum number of parameter sets a batch of a prepared statement rewritten into
+	 * an {@code UNWIND} query (see {@link #PROPERTY_REWRITE_BATCHED_STATEMENTS}) carries
+	 * in a single query. Larger batches are split into chunks that are pipelined in the
+	 * same transaction. Defaults to {@literal 0}, which means that the whole batch is
+	 * sent as one query.
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_BATCH_CHUNK_SIZE = "batchChunkSize";
+
+	/**
+	 * Set to {@literal true} to commit each chunk of a rewritten batch (see
+	 * {@link #PROPERTY_BATCH_CHUNK_SIZE}) in a transaction on its own when the connection
+	 * is in auto-commit mode. A failing chunk will then not roll back the chunks before
+	 * it. Defaults to {@literal false}.
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_COMMIT_BATCH_CHUNKS = "commitBatchChunks";
+
+	/**
+	 * The number of parameter sets after which
+	 * {@link java.sql.PreparedStatement#addBatch()} sends the batch collected so far to
+	 * the server, either rewritten or pipelined, depending on
+	 * {@link #PROPERTY_REWRITE_BATCHED_STATEMENTS}. The update counts are accumulated and
+	 * reported by the final {@link java.sql.Statement#executeBatch()}. In auto-commit
+	 * mode, each part of the batch is committed when it is sent. Defaults to
+	 * {@literal 0}, which means that batches are only sent on execution.
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_BATCH_AUTO_FLUSH_ROWS = "batchAutoFlushRows";
+
+	/**
+	 * The estimated number of bytes of parameter sets after which
+	 * {@link java.sql.PreparedStatement#addBatch()} sends the batch collected so far to
+	 * the server (see {@link #PROPERTY_BATCH_AUTO_FLUSH_ROWS}). Defaults to
+	 * {@literal 0}, which means no limit.
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_BATCH_AUTO_FLUSH_BYTES = "batchAutoFlushBytes";
+
+	/**
+	 * The estimated number of bytes the records of a scrollable result set may occupy on
+	 * the heap before further records are spilled to a memory-mapped temporary file.
+	 * Defaults to {@literal 33554432} (32 MiB).
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_SCROLLABLE_RESULT_SET_MEMORY_THRESHOLD = "scrollableResultSetMemoryThreshold";
+
+	/**
+	 * The size in bytes of a single memory-mapped region of the temporary file a
+	 * scrollable result set spills its records to. Defaults to {@literal 67108864} (64
+	 * MiB).
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_SCROLLABLE_RESULT_SET_SEGMENT_SIZE = "scrollableResultSetSegmentSize";
+
+	/**
+	 * Set to {@literal true} to let {@link java.sql.Statement#execute(String)} accept
+	 * scripts of several statements separated by semicolons. All statements are sent
+	 * pipelined in one request, the results after the first one are available through
+	 * {@link java.sql.Statement#getMoreResults()}. Defaults to {@literal false}.
+	 * @since 6.9.0
+	 */
+	public static final String PROPERTY_ALLOW_MULTI_QUERIES = "allowMultiQueries";
+
 	/**
 	 * An optional configuration for fine-grained control over SSL configuration. Allowed
 	 * values are
@@ -433,6 +538,8 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 
 	private final Set<DriverListener> listeners = new HashSet<>();
 
+	private final ResultMemoryBudget resultMemoryBudget = new ResultMemoryBudget(0);
+
 	private Neo4jTracer tracer;
 
 	private Supplier<Authentication> authenticationSupplier;
@@ -486,6 +593,13 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 		var finalAuthenticationSupplier = determineAuthenticationSupplier(authenticationSupplier, driverConfig);
 		var targetUrl = driverConfig.toUrl();
 
+		if (driverConfig.rawConfig().containsKey(PROPERTY_RESULT_MEMORY_BUDGET)
+				&& !this.resultMemoryBudget.configure(driverConfig.resultMemoryBudget())) {
+			throw new Neo4jException(GQLError.$22N02
+				.withMessage("The result memory budget of this driver is %d bytes and cannot be changed to %d bytes"
+					.formatted(this.resultMemoryBudget.limit(), driverConfig.resultMemoryBudget())));
+		}
+
 		var connectionListeners = new ArrayList<ConnectionListener>();
 		this.listeners.forEach(listener -> {
 			if (listener instanceof ConnectionListener connectionListener) {
@@ -498,8 +612,12 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 						toAuthToken(authentication)),
 				getSqlTranslatorSupplier(enableSqlTranslation, driverConfig.rawConfig(), translatorFactoriesSupplier),
 				enableSqlTranslation, enableTranslationCaching, rewriteBatchedStatements, rewritePlaceholders,
-				bookmarkManager, this.transactionMetadata, driverConfig.relationshipSampleSize(), databaseName,
-				aborted -> {
+				bookmarkManager, this.transactionMetadata, driverConfig.relationshipSampleSize(),
+				driverConfig.readAheadWatermark(), driverConfig.adaptiveFetchSize(),
+				driverConfig.adaptiveFetchSizeMemoryLimit(), this.resultMemoryBudget, driverConfig.batchChunkSize(),
+				driverConfig.commitBatchChunks(), driverConfig.batchAutoFlushRows(), driverConfig.batchAutoFlushBytes(),
+				driverConfig.scrollableResultSetMemoryThreshold(), driverConfig.scrollableResultSetSegmentSize(),
+				driverConfig.allowMultiQueries(), databaseName, aborted -> {
 					var event = new ConnectionClosedEvent(targetUrl, aborted);
 					Events.notify(this.listeners, listener -> listener.onConnectionClosed(event));
 				}, connectionListeners);
@@ -1005,6 +1123,9 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	@Override
 	public void addListener(DriverListener driverListener) {
 		this.listeners.add(Objects.requireNonNull(driverListener));
+		if (driverListener instanceof MetricsCollector metricsCollector) {
+			metricsCollector.register(this.resultMemoryBudget);
+		}
 	}
 
 	@SuppressWarnings("removal")
@@ -1142,6 +1263,27 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 * @param rewritePlaceholders rewrite ? to $0 .. $n
 	 * @param useBookmarks enables the use of causal cluster bookmarks
 	 * @param relationshipSampleSize Sample size for determining relationship types
+	 * @param readAheadWatermark fraction of a batch after which the next batch is
+	 * requested
+	 * @param adaptiveFetchSize adapt the number of records pulled with each batch
+	 * @param adaptiveFetchSizeMemoryLimit memory limit for a batch with adaptive fetch
+	 * size
+	 * @param resultMemoryBudget memory budget for all buffered batches of the driver,
+	 * {@literal 0} for no limit
+	 * @param batchChunkSize maximum number of parameter sets in a rewritten batch query,
+	 * {@literal 0} for no limit
+	 * @param commitBatchChunks commit each chunk of a rewritten batch on its own in
+	 * auto-commit mode
+	 * @param batchAutoFlushRows number of parameter sets after which a batch is sent
+	 * while it is being added to, {@literal 0} for no limit
+	 * @param batchAutoFlushBytes estimated number of bytes after which a batch is sent
+	 * while it is being added to, {@literal 0} for no limit
+	 * @param scrollableResultSetMemoryThreshold estimated number of bytes a scrollable
+	 * result set keeps on the heap before spilling to disk
+	 * @param scrollableResultSetSegmentSize size of a memory-mapped region of the spill
+	 * file of a scrollable result set
+	 * @param allowMultiQueries accept scripts of several statements in
+	 * {@link java.sql.Statement#execute(String)}
 	 * @param sslProperties ssl properties
 	 * @param tryTcpFastOpen set to true to try opening TCP connection using TCP Fast open
 	 * (requires netty-transport-native-epoll, netty-transport-native-kqueue or
@@ -1151,8 +1293,11 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	record DriverConfig(String host, String protocol, Integer port, String database, AuthScheme authScheme, String user,
 			String password, String authRealm, String agent, int timeout, boolean enableSQLTranslation,
 			boolean enableTranslationCaching, boolean rewriteBatchedStatements, boolean rewritePlaceholders,
-			boolean useBookmarks, int relationshipSampleSize, SSLProperties sslProperties, boolean tryTcpFastOpen,
-			Map<String, String> rawConfig) {
+			boolean useBookmarks, int relationshipSampleSize, double readAheadWatermark, boolean adaptiveFetchSize,
+			long adaptiveFetchSizeMemoryLimit, long resultMemoryBudget, int batchChunkSize, boolean commitBatchChunks,
+			int batchAutoFlushRows, long batchAutoFlushBytes, long scrollableResultSetMemoryThreshold,
+			int scrollableResultSetSegmentSize, boolean allowMultiQueries, SSLProperties sslProperties,
+			boolean tryTcpFastOpen, Map<String, String> rawConfig) {
 
 		private static final Set<String> DRIVER_SPECIFIC_PROPERTIES = Set.of(PROPERTY_HOST, PROPERTY_PORT,
 				PROPERTY_DATABASE, PROPERTY_AUTH_SCHEME, PROPERTY_USER, PROPERTY_PASSWORD, PROPERTY_AUTH_REALM,
@@ -1254,6 +1399,53 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 				throw new Neo4jException(
 						GQLError.$22N02.withMessage("Sample size for relationships must be greater than or equal -1"));
 			}
+			var readAheadWatermark = parseNumber(config, PROPERTY_READ_AHEAD_WATERMARK, "0", Double::parseDouble);
+			if (readAheadWatermark < 0.0 || readAheadWatermark > 1.0) {
+				throw new Neo4jException(
+						GQLError.$22N02.withMessage("The read ahead watermark must be between 0 and 1"));
+			}
+			var adaptiveFetchSize = Boolean.parseBoolean(config.getOrDefault(PROPERTY_ADAPTIVE_FETCH_SIZE, "false"));
+			var adaptiveFetchSizeMemoryLimit = parseNumber(config, PROPERTY_ADAPTIVE_FETCH_SIZE_MEMORY_LIMIT,
+					Long.toString(AdaptiveFetchSize.DEFAULT_MEMORY_LIMIT), Long::parseLong);
+			if (adaptiveFetchSizeMemoryLimit <= 0) {
+				throw new Neo4jException(
+						GQLError.$22N02.withMessage("The adaptive fetch size memory limit must be greater than 0"));
+			}
+			var resultMemoryBudget = parseNumber(config, PROPERTY_RESULT_MEMORY_BUDGET, "0", Long::parseLong);
+			if (resultMemoryBudget < 0) {
+				throw new Neo4jException(
+						GQLError.$22N02.withMessage("The result memory budget must be greater than or equal 0"));
+			}
+			var batchChunkSize = parseNumber(config, PROPERTY_BATCH_CHUNK_SIZE, "0", Integer::parseInt);
+			if (batchChunkSize < 0) {
+				throw new Neo4jException(
+						GQLError.$22N02.withMessage("The batch chunk size must be greater than or equal 0"));
+			}
+			var commitBatchChunks = Boolean.parseBoolean(config.getOrDefault(PROPERTY_COMMIT_BATCH_CHUNKS, "false"));
+			var batchAutoFlushRows = parseNumber(config, PROPERTY_BATCH_AUTO_FLUSH_ROWS, "0", Integer::parseInt);
+			if (batchAutoFlushRows < 0) {
+				throw new Neo4jException(
+						GQLError.$22N02.withMessage("The batch auto flush rows must be greater than or equal 0"));
+			}
+			var batchAutoFlushBytes = parseNumber(config, PROPERTY_BATCH_AUTO_FLUSH_BYTES, "0", Long::parseLong);
+			if (batchAutoFlushBytes < 0) {
+				throw new Neo4jException(
+						GQLError.$22N02.withMessage("The batch auto flush bytes must be greater than or equal 0"));
+			}
+			var scrollableResultSetMemoryThreshold = parseNumber(config,
+					PROPERTY_SCROLLABLE_RESULT_SET_MEMORY_THRESHOLD, Long.toString(RowBuffer.DEFAULT_MEMORY_THRESHOLD),
+					Long::parseLong);
+			if (scrollableResultSetMemoryThreshold < 0) {
+				throw new Neo4jException(GQLError.$22N02
+					.withMessage("The scrollable result set memory threshold must be greater than or equal 0"));
+			}
+			var scrollableResultSetSegmentSize = parseNumber(config, PROPERTY_SCROLLABLE_RESULT_SET_SEGMENT_SIZE,
+					Integer.toString(RowBuffer.DEFAULT_SEGMENT_SIZE), Integer::parseInt);
+			if (scrollableResultSetSegmentSize <= 0) {
+				throw new Neo4jException(GQLError.$22N02
+					.withMessage("The scrollable result set segment size must be greater than 0"));
+			}
+			var allowMultiQueries = Boolean.parseBoolean(config.getOrDefault(PROPERTY_ALLOW_MULTI_QUERIES, "false"));
 			var hlp = config.get(PROPERTY_TRY_TCP_FAST_OPEN);
 			var tryTcpFastOpen = Boolean.parseBoolean(hlp);
 			if (hlp != null) {
@@ -1262,8 +1454,11 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 
 			return new DriverConfig(host, protocol, port, databaseName, authScheme, user, password, authRealm,
 					userAgent, connectionTimeoutMillis, automaticSqlTranslation, enableTranslationCaching,
-					rewriteBatchedStatements, rewritePlaceholders, useBookmarks, relationshipSampleSize, sslProperties,
-					tryTcpFastOpen, raw);
+					rewriteBatchedStatements, rewritePlaceholders, useBookmarks, relationshipSampleSize,
+					readAheadWatermark, adaptiveFetchSize, adaptiveFetchSizeMemoryLimit, resultMemoryBudget,
+					batchChunkSize, commitBatchChunks, batchAutoFlushRows, batchAutoFlushBytes,
+					scrollableResultSetMemoryThreshold, scrollableResultSetSegmentSize, allowMultiQueries,
+					sslProperties, tryTcpFastOpen, raw);
 		}
 
 		private static AuthScheme authScheme(String scheme) throws IllegalArgumentException {
@@ -1279,6 +1474,29 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 			}
 		}
 
+		/**
+		 * Parses a numeric property, reporting a value that is not a number the same way
+		 * as a value that is out of range.
+		 * @param config the merged configuration
+		 * @param name the name of the property
+		 * @param defaultValue the value to use when the property is not set
+		 * @param parser the parser for the type of the property
+		 * @param <T> the type of the property
+		 * @return the parsed value
+		 * @throws SQLException if the value is not a number
+		 */
+		private static <T extends Number> T parseNumber(Map<String, String> config, String name, String defaultValue,
+				Function<String, T> parser) throws SQLException {
+			var value = config.getOrDefault(name, defaultValue);
+			try {
+				return parser.apply(value);
+			}
+			catch (NumberFormatException ex) {
+				throw new Neo4jException(GQLError.$22N02.causedBy(ex)
+					.withMessage("The value of %s must be a number but was '%s'".formatted(name, value)));
+			}
+		}
+
 		String formattedPort() {
 			return (this.port() != null) ? (":" + this.port()) : "";
 		}
@@ -24,9 +24,11 @@ import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.concurrent.CompletionStage;
 
 /**
  * A Neo4j specific extension of a {@link PreparedStatement}. It may be referred to for
@@ -211,4 +213,26 @@ public sealed interface Neo4jPreparedStatement extends PreparedStatement permits
 	 */
 	void setArray(String parameterName, Array value) throws SQLException;
 
+	/**
+	 * Asynchronous variant of {@link #executeQuery()}. The parameters are read when this
+	 * method is called, the calling thread does not wait for the response of the server.
+	 * The stage completes on a network thread and this statement must not be used until
+	 * it has completed.
+	 * @return a stage completing with the result set of the query, or exceptionally with
+	 * an {@link SQLException}
+	 * @throws SQLException if this statement is closed or the method is not supported
+	 * @since 6.9.0
+	 * @see Neo4jStatement#executeQueryAsync(String)
+	 */
+	CompletionStage<ResultSet> executeQueryAsync() throws SQLException;
+
+	/**
+	 * Asynchronous variant of {@link #executeUpdate()}, see {@link #executeQueryAsync()}.
+	 * @return a stage completing with the update count, or exceptionally with an
+	 * {@link SQLException}
+	 * @throws SQLException if this statement is closed or the method is not supported
+	 * @since 6.9.0
+	 */
+	CompletionStage<Integer> executeUpdateAsync() throws SQLException;
+
 }
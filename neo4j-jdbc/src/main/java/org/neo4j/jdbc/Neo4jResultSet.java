@@ -19,8 +19,13 @@
 package org.neo4j.jdbc;
 
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 import org.neo4j.jdbc.events.ResultSetListener;
+import org.neo4j.jdbc.values.Record;
 
 /**
  * A Neo4j specific extension of a {@link ResultSet}. It may be referred to for use with
@@ -39,4 +44,60 @@ public sealed interface Neo4jResultSet extends ResultSet permits ResultSetImpl {
 	 */
 	void addListener(ResultSetListener resultSetListener);
 
+	/**
+	 * Returns the remaining records of this result set as a sequential {@link Stream}.
+	 * The stream moves the cursor of this result set and closing the stream closes the
+	 * result set. When processed in parallel, the stream is split along the batches
+	 * pulled from the database, so each batch can be processed independently while the
+	 * next one is requested.
+	 * @return a stream of the remaining records
+	 * @throws SQLException if the result set is closed
+	 * @since 6.9.0
+	 */
+	Stream<Record> stream() throws SQLException;
+
+	/**
+	 * Returns the remaining records of this result set as a {@link Flow.Publisher}. The
+	 * demand signalled by the subscriber determines the number of records that are pulled
+	 * from the database once the current batch is exhausted. Records are pulled and
+	 * emitted on the given executor, never on the thread requesting them, and the result
+	 * set is closed when the subscription completes, fails or is cancelled. The publisher
+	 * supports only a single subscriber.
+	 * @param executor the executor to pull and emit records on
+	 * @return a publisher of the remaining records
+	 * @throws SQLException if the result set is closed
+	 * @since 6.9.0
+	 */
+	Flow.Publisher<Record> asPublisher(Executor executor) throws SQLException;
+
+	/**
+	 * Moves the cursor over up to {@code maxRows} rows and returns them in a
+	 * column-oriented layout. The rows are taken from the batch that has already been
+	 * pulled from the database, the next batch is only requested when the current one is
+	 * exhausted, so the returned batch may contain fewer rows than requested. After this
+	 * call the cursor is positioned on the last row of the returned batch.
+	 * @param maxRows the maximum number of rows to return, must be greater than 0
+	 * @return a batch of the next rows, empty if there are no more rows
+	 * @throws SQLException if the result set is closed, {@code maxRows} is invalid or the
+	 * next batch cannot be retrieved
+	 * @since 6.9.0
+	 */
+	ColumnBatch nextBatch(int maxRows) throws SQLException;
+
+	/**
+	 * Maps the current row onto a Java record or a JavaBean. Record components are bound
+	 * to the columns of the same name, JavaBeans are created through their no-args
+	 * constructor and populated through the setters matching the columns. The mapper for
+	 * a combination of columns and type is created once and cached, so that mapping does
+	 * not require reflection per row. Values are converted with the same rules as the
+	 * corresponding {@code getXXX} methods of this result set.
+	 * @param type the type of the object to create
+	 * @param <T> the type of the object to create
+	 * @return the current row mapped onto a new instance of the given type
+	 * @throws SQLException if the result set is closed, the cursor is not on a row, the
+	 * type cannot be instantiated or a value cannot be converted
+	 * @since 6.9.0
+	 */
+	<T> T mapTo(Class<T> type) throws SQLException;
+
 }
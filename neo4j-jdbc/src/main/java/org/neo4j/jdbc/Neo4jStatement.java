@@ -18,9 +18,16 @@
  */
 package org.neo4j.jdbc;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 
 import org.neo4j.jdbc.events.StatementListener;
+import org.neo4j.jdbc.values.Record;
 
 /**
  * A Neo4j specific extension of a {@link java.sql.Statement}. It may be referred to for
@@ -44,4 +51,58 @@ public sealed interface Neo4jStatement extends Statement, Neo4jMetadataWriter pe
 	 */
 	void addListener(StatementListener statementListener);
 
+	/**
+	 * Creates a {@link Flow.Publisher} for the records of the given query. The query is
+	 * executed when the subscriber signals demand for the first time and each demand that
+	 * cannot be served from the records already received is translated into a
+	 * {@code PULL} of exactly that many records. The query is executed and records are
+	 * pulled and emitted on the given executor, never on the thread requesting them, and
+	 * the underlying result set is closed when the subscription completes, fails or is
+	 * cancelled. The publisher supports only a single subscriber.
+	 * @param sql the query to execute
+	 * @param executor the executor to execute the query and to emit records on
+	 * @return a publisher of the records of the query
+	 * @throws SQLException if this statement is closed or the method is not supported
+	 * @since 6.9.0
+	 * @see Neo4jResultSet#asPublisher(Executor)
+	 */
+	Flow.Publisher<Record> executeAsPublisher(String sql, Executor executor) throws SQLException;
+
+	/**
+	 * Executes the given query and maps all rows onto instances of the given type.
+	 * @param sql the query to execute
+	 * @param type the type of the objects to create, either a Java record or a JavaBean
+	 * @param <T> the type of the objects to create
+	 * @return the mapped rows
+	 * @throws SQLException if this statement is closed, the method is not supported or
+	 * the rows cannot be mapped
+	 * @since 6.9.0
+	 * @see Neo4jResultSet#mapTo(Class)
+	 */
+	<T> List<T> query(String sql, Class<T> type) throws SQLException;
+
+	/**
+	 * Asynchronous variant of {@link #executeQuery(String)}. The query is translated,
+	 * events are published and the transaction is acquired the same way, but the calling
+	 * thread does not wait for the response of the server. The stage completes on a
+	 * network thread and this statement must not be used until it has completed.
+	 * @param sql the query to execute
+	 * @return a stage completing with the result set of the query, or exceptionally with
+	 * an {@link SQLException}
+	 * @throws SQLException if this statement is closed or the method is not supported
+	 * @since 6.9.0
+	 */
+	CompletionStage<ResultSet> executeQueryAsync(String sql) throws SQLException;
+
+	/**
+	 * Asynchronous variant of {@link #executeUpdate(String)}, see
+	 * {@link #executeQueryAsync(String)}.
+	 * @param sql the statement to execute
+	 * @return a stage completing with the update count, or exceptionally with an
+	 * {@link SQLException}
+	 * @throws SQLException if this statement is closed or the method is not supported
+	 * @since 6.9.0
+	 */
+	CompletionStage<Integer> executeUpdateAsync(String sql) throws SQLException;
+
 }
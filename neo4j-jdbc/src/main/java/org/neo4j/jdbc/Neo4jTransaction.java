@@ -19,12 +19,16 @@
 package org.neo4j.jdbc;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.bolt.connection.SummaryCounters;
 import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
 
 /**
  * A transaction that manages a Bolt transaction on the network level.
@@ -42,16 +46,145 @@ interface Neo4jTransaction {
 	DiscardResponse runAndDiscard(String query, Map<String, Object> parameters, int timeout, boolean commit)
 			throws SQLException;
 
+	/**
+	 * Asynchronous variant of {@link #runAndPull(String, Map, int, int)}. The stage
+	 * completes exceptionally with an {@link SQLException} if the query fails. No other
+	 * request may be started before the stage is done. The default implementation runs
+	 * the query on the calling thread.
+	 * @param query the query to run
+	 * @param parameters the parameters of the query
+	 * @param fetchSize the number of records to pull
+	 * @param timeout the timeout in seconds, {@literal 0} for none
+	 * @return a stage completing with the responses
+	 * @since 6.9.0
+	 */
+	default CompletionStage<RunAndPullResponses> runAndPullAsync(String query, Map<String, Object> parameters,
+			int fetchSize, int timeout) {
+		try {
+			return CompletableFuture.completedFuture(runAndPull(query, parameters, fetchSize, timeout));
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
+	/**
+	 * Asynchronous variant of {@link #runAndDiscard(String, Map, int, boolean)}. The
+	 * stage completes exceptionally with an {@link SQLException} if the query fails. No
+	 * other request may be started before the stage is done. The default implementation
+	 * runs the query on the calling thread.
+	 * @param query the query to run
+	 * @param parameters the parameters of the query
+	 * @param timeout the timeout in seconds, {@literal 0} for none
+	 * @param commit whether to commit the transaction after the query
+	 * @return a stage completing with the response
+	 * @since 6.9.0
+	 */
+	default CompletionStage<DiscardResponse> runAndDiscardAsync(String query, Map<String, Object> parameters,
+			int timeout, boolean commit) {
+		try {
+			return CompletableFuture.completedFuture(runAndDiscard(query, parameters, timeout, commit));
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
+	/**
+	 * Runs all given queries in order and discards their results. Implementations are
+	 * expected to pipeline all queries into a single request, the default implementation
+	 * runs them one after another.
+	 * @param queries the queries to run
+	 * @param timeout the timeout in seconds for the whole batch, {@literal 0} for none
+	 * @param commit whether to commit the transaction after the last query
+	 * @return one response per query, in the order of the queries
+	 * @throws SQLException if any of the queries fails
+	 * @since 6.9.0
+	 */
+	default List<DiscardResponse> runAndDiscardAll(List<BatchQuery> queries, int timeout, boolean commit)
+			throws SQLException {
+		var responses = new ArrayList<DiscardResponse>(queries.size());
+		for (var i = 0; i < queries.size(); ++i) {
+			var query = queries.get(i);
+			responses.add(runAndDiscard(query.query(), query.parameters(), timeout, commit && i == queries.size() - 1));
+		}
+		return responses;
+	}
+
+	/**
+	 * Runs all given queries in order and pulls the first batch of records of each of
+	 * them. Implementations are expected to pipeline all queries into a single request,
+	 * the default implementation runs them one after another.
+	 * @param queries the queries to run
+	 * @param fetchSize the number of records to pull for each query
+	 * @param timeout the timeout in seconds for all queries, {@literal 0} for none
+	 * @return one pair of responses per query, in the order of the queries
+	 * @throws SQLException if any of the queries fails
+	 * @since 6.9.0
+	 */
+	default List<RunAndPullResponses> runAndPullAll(List<BatchQuery> queries, int fetchSize, int timeout)
+			throws SQLException {
+		var responses = new ArrayList<RunAndPullResponses>(queries.size());
+		for (var query : queries) {
+			responses.add(runAndPull(query.query(), query.parameters(), fetchSize, timeout));
+		}
+		return responses;
+	}
+
 	PullResponse pull(RunResponse runResponse, long request) throws SQLException;
 
+	/**
+	 * Requests the next batch of records for the given result without waiting for it. The
+	 * batch will be returned by the next call to {@link #pull(RunResponse, long)} for the
+	 * same result. Implementations that cannot pull ahead are free to ignore this
+	 * request.
+	 * @param runResponse the result to pull from
+	 * @param request the number of records to request
+	 * @throws SQLException if the transaction is not in a state to pull records
+	 */
+	default void pullAhead(RunResponse runResponse, long request) throws SQLException {
+	}
+
+	/**
+	 * Marks the given result as no longer needed. Implementations are expected to discard
+	 * the remaining records of the result on the server together with the next request
+	 * that is sent and are free to ignore this call otherwise.
+	 * @param runResponse the result to discard
+	 * @throws SQLException if the transaction is not in a state to discard records
+	 */
+	default void discard(RunResponse runResponse) throws SQLException {
+	}
+
+	/**
+	 * Cancels the request this transaction is currently waiting for, if any. This method
+	 * is meant to be called from a thread other than the one executing the request, which
+	 * will fail and leave this transaction in a failed state. Implementations without
+	 * requests in flight are free to ignore this call.
+	 */
+	default void cancel() {
+	}
+
 	void commit() throws SQLException;
 
+	/**
+	 * Rolls back this transaction. An auto commit transaction whose commit has already
+	 * been sent (see {@link #isCommitPending()}) cannot be rolled back anymore and must
+	 * be committed instead.
+	 * @throws SQLException if the rollback fails or the commit is pending
+	 */
 	void rollback() throws SQLException;
 
 	void fail(SQLException exception) throws SQLException;
 
 	boolean isAutoCommit();
 
+	/**
+	 * {@return whether the commit of this transaction has been sent but not yet awaited}
+	 */
+	default boolean isCommitPending() {
+		return false;
+	}
+
 	default boolean isRunnable() {
 		return switch (this.getState()) {
 			case NEW, READY -> true;
@@ -71,6 +204,31 @@ interface Neo4jTransaction {
 	record RunAndPullResponses(RunResponse runResponse, PullResponse pullResponse) {
 	}
 
+	/**
+	 * A query that is part of a batch.
+	 *
+	 * @param query the query to run
+	 * @param parameters the parameters of the query
+	 * @param estimatedSize the estimated number of bytes of the parameters, bounds the
+	 * requests a batch is split into
+	 * @since 6.9.0
+	 */
+	record BatchQuery(String query, Map<String, Object> parameters, long estimatedSize) {
+
+		BatchQuery(String query, Map<String, Object> parameters) {
+			this(query, parameters, estimateSize(parameters));
+		}
+
+		private static long estimateSize(Map<String, Object> parameters) {
+			var size = 0L;
+			for (var value : parameters.values()) {
+				size += 8 + ((value instanceof Value v) ? AdaptiveFetchSize.estimateSize(v) : 64);
+			}
+			return size;
+		}
+
+	}
+
 	enum State {
 
 		/**
@@ -121,6 +279,15 @@ interface Neo4jTransaction {
 
 		boolean hasMore();
 
+		/**
+		 * {@return the estimated size of a single record of this response in bytes,
+		 * {@literal 0} if not known up front}
+		 * @since 6.9.0
+		 */
+		default long estimatedRecordSize() {
+			return 0;
+		}
+
 	}
 
 	interface DiscardResponse {
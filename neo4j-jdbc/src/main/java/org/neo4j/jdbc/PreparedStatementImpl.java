@@ -26,6 +26,7 @@ import java.math.BigDecimal;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.sql.Array;
+import java.sql.BatchUpdateException;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
@@ -43,17 +44,21 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.ArrayDeque;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Comparator;
-import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
@@ -62,6 +67,8 @@ import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 import org.neo4j.jdbc.Neo4jException.GQLError;
+import org.neo4j.jdbc.Neo4jTransaction.BatchQuery;
+import org.neo4j.jdbc.values.Record;
 import org.neo4j.jdbc.values.Value;
 import org.neo4j.jdbc.values.ValueException;
 import org.neo4j.jdbc.values.Values;
@@ -83,12 +90,30 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 
 	// We did not consider using concurrent datastructures as the `PreparedStatement` is
 	// usually not treated as thread-safe
-	private final Deque<Map<String, Object>> parameters = new ArrayDeque<>();
+	private final Map<String, Object> parameters = newParameterMap();
+
+	private BatchParameters batch = new BatchParameters();
+
+	private int addedBatches;
 
 	private final boolean rewriteBatchedStatements;
 
 	private final String sql;
 
+	private int batchChunkSize;
+
+	private boolean commitBatchChunks;
+
+	private int batchAutoFlushRows;
+
+	private long batchAutoFlushBytes;
+
+	/**
+	 * Update counts of the parts of the batch that have already been sent by
+	 * {@link #addBatch()}.
+	 */
+	private int[] flushedUpdateCounts = new int[0];
+
 	private final AtomicBoolean cursorMoved = new AtomicBoolean(false);
 
 	static String rewritePlaceholders(String raw) {
@@ -106,14 +131,38 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 
 	PreparedStatementImpl(Connection connection, Neo4jTransactionSupplier transactionSupplier,
 			UnaryOperator<String> translator, Warnings localWarnings, Consumer<Class<? extends Statement>> onClose,
-			boolean rewritePlaceholders, boolean rewriteBatchedStatements, String sql) {
+			boolean rewritePlaceholders, boolean rewriteBatchedStatements, double readAheadWatermark,
+			boolean adaptiveFetchSize, long adaptiveFetchSizeMemoryLimit, String sql) {
 		super(connection, transactionSupplier,
 				rewritePlaceholders ? s -> PreparedStatementImpl.rewritePlaceholders(translator.apply(s)) : translator,
-				localWarnings, onClose);
+				localWarnings, onClose, readAheadWatermark, adaptiveFetchSize, adaptiveFetchSizeMemoryLimit);
 		this.rewriteBatchedStatements = rewriteBatchedStatements;
 		this.sql = sql;
 		this.poolable = true;
-		this.parameters.add(newParameterMap());
+	}
+
+	/**
+	 * Configures how rewritten batches are split up.
+	 * @param chunkSize the maximum number of parameter sets unwound by a single query,
+	 * {@literal 0} to unwind all of them at once
+	 * @param commitChunks whether each chunk is committed on its own when in auto-commit
+	 * mode
+	 */
+	void setBatchChunking(int chunkSize, boolean commitChunks) {
+		this.batchChunkSize = chunkSize;
+		this.commitBatchChunks = commitChunks;
+	}
+
+	/**
+	 * Configures when a batch is sent while parameter sets are still being added.
+	 * @param rows the number of parameter sets after which the batch is sent,
+	 * {@literal 0} for no limit
+	 * @param bytes the estimated number of bytes after which the batch is sent,
+	 * {@literal 0} for no limit
+	 */
+	void setBatchAutoFlush(int rows, long bytes) {
+		this.batchAutoFlushRows = rows;
+		this.batchAutoFlushBytes = bytes;
 	}
 
 	private static LinkedHashMap<String, Object> newParameterMap() {
@@ -128,7 +177,7 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	}
 
 	protected final Map<String, Object> getCurrentBatch() {
-		return this.parameters.getLast();
+		return this.parameters;
 	}
 
 	@Override
@@ -138,16 +187,48 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 		return super.executeUpdate0(this.sql, true, getCurrentBatch());
 	}
 
+	@Override
+	public CompletionStage<ResultSet> executeQueryAsync() throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Executing query asynchronously");
+		return super.executeQueryAsync0(this.sql, true, getCurrentBatch());
+	}
+
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync() throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Executing update asynchronously");
+		return super.executeUpdateAsync0(this.sql, true, getCurrentBatch());
+	}
+
 	@Override
 	public final ResultSet executeQuery(String sql) throws SQLException {
 		throw newIllegalMethodInvocation();
 	}
 
+	@Override
+	public final CompletionStage<ResultSet> executeQueryAsync(String sql) throws SQLException {
+		throw newIllegalMethodInvocation();
+	}
+
+	@Override
+	public final CompletionStage<Integer> executeUpdateAsync(String sql) throws SQLException {
+		throw newIllegalMethodInvocation();
+	}
+
 	@Override
 	public final int executeUpdate(String sql) throws SQLException {
 		throw newIllegalMethodInvocation();
 	}
 
+	@Override
+	public final Flow.Publisher<Record> executeAsPublisher(String sql, Executor executor) throws SQLException {
+		throw newIllegalMethodInvocation();
+	}
+
+	@Override
+	public final <T> List<T> query(String sql, Class<T> type) throws SQLException {
+		throw newIllegalMethodInvocation();
+	}
+
 	@Override
 	public final boolean execute(String sql) throws SQLException {
 		throw newIllegalMethodInvocation();
@@ -162,7 +243,61 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	public void addBatch() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Adding batch");
 		assertIsOpen();
-		this.parameters.addLast(newParameterMap());
+		moveParametersToBatch();
+		++this.addedBatches;
+		if ((this.batchAutoFlushRows > 0 && this.batch.size() >= this.batchAutoFlushRows)
+				|| (this.batchAutoFlushBytes > 0 && this.batch.estimatedSize() >= this.batchAutoFlushBytes)) {
+			flushBatch();
+		}
+	}
+
+	/**
+	 * Sends the parameter sets collected so far and keeps their update counts for the
+	 * final {@link #executeBatch()}, so that an unbounded batch does not need to be held
+	 * in memory.
+	 * @throws SQLException if the batch fails, the whole batch is cleared then
+	 */
+	private void flushBatch() throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Flushing batch");
+		try {
+			this.flushedUpdateCounts = accumulate(this.flushedUpdateCounts, executeCurrentBatch());
+		}
+		catch (BatchUpdateException ex) {
+			var updateCounts = accumulate(this.flushedUpdateCounts, ex.getUpdateCounts());
+			this.clearBatch();
+			throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), updateCounts,
+					ex.getCause());
+		}
+		catch (SQLException ex) {
+			this.clearBatch();
+			throw ex;
+		}
+		this.batch = new BatchParameters();
+	}
+
+	private int[] accumulate(int[] previousUpdateCounts, int[] updateCounts) {
+		if (this.rewriteBatchedStatements) {
+			var updateCount = 0;
+			for (var count : previousUpdateCounts) {
+				updateCount += count;
+			}
+			for (var count : updateCounts) {
+				updateCount += count;
+			}
+			return new int[] { updateCount };
+		}
+		var result = Arrays.copyOf(previousUpdateCounts, previousUpdateCounts.length + updateCounts.length);
+		System.arraycopy(updateCounts, 0, result, previousUpdateCounts.length, updateCounts.length);
+		return result;
+	}
+
+	private void moveParametersToBatch() throws SQLException {
+		if (this.parameters.isEmpty()) {
+			return;
+		}
+		// Readers and streams are consumed right away, the batch only stores values
+		this.batch.add(getParameters(this.parameters));
+		this.parameters.clear();
 	}
 
 	@Override
@@ -176,24 +311,46 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	public int[] executeBatch() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Executing batch");
 		assertIsOpen();
+		moveParametersToBatch();
+		// Nothing is left to send when the last parameter set has triggered a flush
+		if (!this.batch.isEmpty() || this.flushedUpdateCounts.length == 0) {
+			flushBatch();
+		}
+		int[] result;
+		if (this.rewriteBatchedStatements) {
+			result = this.flushedUpdateCounts;
+		}
+		else {
+			result = new int[this.addedBatches + 1];
+			Arrays.fill(result, SUCCESS_NO_INFO);
+			System.arraycopy(this.flushedUpdateCounts, 0, result, 0,
+					Math.min(this.flushedUpdateCounts.length, result.length));
+		}
+
+		this.clearBatch();
+		return result;
+	}
+
+	/**
+	 * Runs all parameter sets of the current batch, without the ones already flushed.
+	 * @return a single update count when the batch is rewritten, otherwise one update
+	 * count per parameter set
+	 * @throws SQLException if the batch fails
+	 */
+	private int[] executeCurrentBatch() throws SQLException {
 		// Apply any SQL to Cypher transformation upfront and assume a simple
 		// CREATE statement provided and not something that already does an unwind.
 		// But even without rewriting the batch, it's fast as things don't have
 		// to be parsed twice.
 		var processedSql = processSQL(this.sql);
-		int[] result;
 		if (this.rewriteBatchedStatements) {
+			// Parameters with the same value in all rows are sent only once as top level
+			// parameters, the rows carry only the varying ones
+			var constantParameters = this.batch.constants();
 			// No, can't use the comparator constructor here, as that one would be used
 			// to check then for equality as well
-			var keys = new HashSet<String>();
-			var validParameters = new ArrayList<Map<String, Object>>();
-			for (var parameter : this.parameters) {
-				if (parameter.isEmpty()) {
-					continue;
-				}
-				keys.addAll(parameter.keySet());
-				validParameters.add(parameter);
-			}
+			var keys = new HashSet<>(this.batch.keys());
+			keys.removeAll(constantParameters.keySet());
 			for (String key : keys.stream().sorted(Comparator.comparing(String::length).reversed()).toList()) {
 				// The boundary of the regex works only reliable with indexed
 				// ordinalParameters,
@@ -205,30 +362,96 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 			processedSql = "UNWIND $__parameters AS __parameter " + processedSql;
 			LOGGER.log(Level.INFO, "Rewrite batch statements is in effect, statement {0} has been rewritten into {1}",
 					new Object[] { this.sql, processedSql });
-			result = new int[] { super.executeUpdate0(processedSql, false, Map.of("__parameters", validParameters)) };
+			return new int[] { executeRewrittenBatch(processedSql, constantParameters) };
 		}
-		else {
-			result = new int[this.parameters.size()];
-			Arrays.fill(result, SUCCESS_NO_INFO);
-			int i = 0;
-			for (var parameter : this.parameters) {
-				if (parameter.isEmpty()) {
-					continue;
+		// All parameter sets are pipelined instead of running them one after
+		// another
+		return super.executeBatch0(this.sql, newRowQueries(processedSql));
+	}
+
+	/**
+	 * Creates a view on all rows of the batch, each row is materialized only when it is
+	 * sent.
+	 * @param processedSql the query to run for each row
+	 * @return a list of queries
+	 */
+	private List<BatchQuery> newRowQueries(String processedSql) {
+		var rows = this.batch;
+		return new AbstractList<>() {
+			@Override
+			public BatchQuery get(int index) {
+				return new BatchQuery(processedSql, rows.get(index), rows.estimatedSize(index, index + 1));
+			}
+
+			@Override
+			public int size() {
+				return rows.size();
+			}
+		};
+	}
+
+	/**
+	 * Creates a view on the batch split into chunks of rows that are unwound by the given
+	 * query, each chunk is materialized only when it is sent.
+	 * @param processedSql the rewritten query
+	 * @param constantParameters the parameters that are not part of the rows
+	 * @return a list of queries, at least one
+	 */
+	private List<BatchQuery> newChunkedQueries(String processedSql, Map<String, Object> constantParameters) {
+		var rows = this.batch;
+		var chunkSize = (this.batchChunkSize > 0) ? this.batchChunkSize : Math.max(rows.size(), 1);
+		var chunks = Math.max((rows.size() + chunkSize - 1) / chunkSize, 1);
+		return new AbstractList<>() {
+			@Override
+			public BatchQuery get(int index) {
+				Objects.checkIndex(index, chunks);
+				var from = index * chunkSize;
+				var to = Math.min(from + chunkSize, rows.size());
+				var parameters = new HashMap<>(constantParameters);
+				parameters.put("__parameters", rows.toListValue(from, to, constantParameters.keySet()));
+				return new BatchQuery(processedSql, parameters, rows.estimatedSize(from, to));
+			}
+
+			@Override
+			public int size() {
+				return chunks;
+			}
+		};
+	}
+
+	private int executeRewrittenBatch(String processedSql, Map<String, Object> constantParameters) throws SQLException {
+		var queries = newChunkedQueries(processedSql, constantParameters);
+		var updateCount = 0;
+		if (this.commitBatchChunks && getConnection().getAutoCommit()) {
+			// Each chunk is run and committed on its own, so that a failing chunk
+			// does not roll back the ones before
+			for (var query : queries) {
+				try {
+					updateCount += super.executeBatch0(this.sql, List.of(query))[0];
+				}
+				catch (BatchUpdateException ex) {
+					throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(),
+							new int[] { updateCount }, ex.getCause());
 				}
-				result[i++] = super.executeUpdate0(processedSql, false, parameter);
 			}
 		}
-
-		this.clearBatch();
-		return result;
+		else {
+			for (var chunkUpdateCount : super.executeBatch0(this.sql, queries)) {
+				updateCount += chunkUpdateCount;
+			}
+		}
+		return updateCount;
 	}
 
 	@Override
 	public void clearBatch() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Clearing batch");
 		assertIsOpen();
+		// Not cleared in place, views on the previous batch stay valid
+		this.batch = new BatchParameters();
 		this.parameters.clear();
-		this.parameters.add(newParameterMap());
+		this.addedBatches = 0;
+		this.flushedUpdateCounts = new int[0];
 	}
 
 	final void setParameter(String key, Object value) {
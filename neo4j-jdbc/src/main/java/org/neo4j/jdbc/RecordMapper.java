@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+
+import static org.neo4j.jdbc.Neo4jException.withInternal;
+import static org.neo4j.jdbc.Neo4jException.withReason;
+
+/**
+ * Maps records onto Java records or JavaBeans. A mapper is built once per column layout
+ * and target type: the canonical constructor of a record or the no-args constructor and
+ * setters of a bean are resolved into {@link MethodHandle method handles}, and for each
+ * column a converter is chosen based on the type of the constructor parameter or setter,
+ * so that mapping a record does not involve any reflection.
+ * <p>
+ * Record components are matched to columns by name, ignoring case if there is no exact
+ * match, and all components must be present. Setters are matched in the same way, columns
+ * without a matching setter are ignored. {@literal null} values are mapped to the default
+ * value of primitive types.
+ *
+ * @param <T> the type of the objects created
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class RecordMapper<T> {
+
+	/**
+	 * Upper bound for the number of cached mappers per target type, guarding against an
+	 * unbounded number of different column layouts.
+	 */
+	static final int MAX_CACHED_LAYOUTS = 64;
+
+	/**
+	 * Mappers by target type and column layout. The mappers of a type are attached to
+	 * its class, so that they don't keep the class loader of the type alive.
+	 */
+	private static final ClassValue<Map<List<String>, RecordMapper<?>>> CACHE = new ClassValue<>() {
+		@Override
+		protected Map<List<String>, RecordMapper<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final Class<T> type;
+
+	private final MethodHandle constructor;
+
+	private final int[] columns;
+
+	private final Converter[] converters;
+
+	/**
+	 * {@literal null} for records, otherwise the setters in the same order as the
+	 * columns.
+	 */
+	private final MethodHandle[] setters;
+
+	/**
+	 * Retrieves a cached mapper or creates a new one. Once
+	 * {@link #MAX_CACHED_LAYOUTS} layouts are cached for a type, mappers for further
+	 * layouts are created but not cached.
+	 * @param <T> the type of the objects created
+	 * @param keys the columns of the records to map
+	 * @param type the type of the objects created
+	 * @return a mapper
+	 * @throws SQLException if the type cannot be instantiated or its components do not
+	 * match the columns
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> RecordMapper<T> of(List<String> keys, Class<T> type) throws SQLException {
+		var mappers = CACHE.get(type);
+		var mapper = mappers.get(keys);
+		if (mapper == null) {
+			mapper = type.isRecord() ? forRecord(keys, type) : forBean(keys, type);
+			if (mappers.size() < MAX_CACHED_LAYOUTS) {
+				mappers.putIfAbsent(List.copyOf(keys), mapper);
+			}
+		}
+		return (RecordMapper<T>) mapper;
+	}
+
+	private RecordMapper(Class<T> type, MethodHandle constructor, int[] columns, Converter[] converters,
+			MethodHandle[] setters) {
+		this.type = type;
+		this.constructor = constructor;
+		this.columns = columns;
+		this.converters = converters;
+		this.setters = setters;
+	}
+
+	/**
+	 * {@return true if this mapper creates instances of the given type}
+	 * @param candidate the type to check
+	 */
+	boolean isFor(Class<?> candidate) {
+		return this.type == candidate;
+	}
+
+	/**
+	 * Maps a single record.
+	 * @param record the record to map, must have the column layout for which this mapper
+	 * has been created
+	 * @param maxFieldSize the maximum number of bytes for strings and byte arrays
+	 * @return a new object
+	 * @throws SQLException if a value cannot be converted or the object cannot be created
+	 */
+	T map(Record record, int maxFieldSize) throws SQLException {
+		try {
+			if (this.setters == null) {
+				var arguments = new Object[this.columns.length];
+				for (var i = 0; i < arguments.length; ++i) {
+					arguments[i] = this.converters[i].convert(record.get(this.columns[i]), maxFieldSize);
+				}
+				return this.type.cast((Object) this.constructor.invokeExact(arguments));
+			}
+			var result = (Object) this.constructor.invokeExact(new Object[0]);
+			for (var i = 0; i < this.setters.length; ++i) {
+				this.setters[i].invokeExact(result,
+						this.converters[i].convert(record.get(this.columns[i]), maxFieldSize));
+			}
+			return this.type.cast(result);
+		}
+		catch (SQLException | RuntimeException | Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			throw new Neo4jException(
+					withInternal(new RuntimeException(ex), "Could not create instance of %s".formatted(this.type)));
+		}
+	}
+
+	private static <T> RecordMapper<T> forRecord(List<String> keys, Class<T> type) throws SQLException {
+		var components = type.getRecordComponents();
+		var parameterTypes = new Class<?>[components.length];
+		var columns = new int[components.length];
+		var converters = new Converter[components.length];
+		for (var i = 0; i < components.length; ++i) {
+			var name = components[i].getName();
+			columns[i] = indexOf(keys, name);
+			if (columns[i] < 0) {
+				throw new Neo4jException(withReason(
+						"There is no column matching the component `%s` of %s".formatted(name, type.getName())));
+			}
+			parameterTypes[i] = components[i].getType();
+			converters[i] = converterFor(parameterTypes[i]);
+		}
+
+		try {
+			var constructor = accessible(type.getDeclaredConstructor(parameterTypes));
+			var handle = MethodHandles.lookup()
+				.unreflectConstructor(constructor)
+				.asSpreader(Object[].class, components.length)
+				.asType(CONSTRUCTOR_TYPE);
+			return new RecordMapper<>(type, handle, columns, converters, null);
+		}
+		catch (NoSuchMethodException | IllegalAccessException ex) {
+			throw new Neo4jException(
+					withInternal(ex, "Could not access the canonical constructor of %s".formatted(type.getName())));
+		}
+	}
+
+	private static <T> RecordMapper<T> forBean(List<String> keys, Class<T> type) throws SQLException {
+		if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+			throw new Neo4jException(withReason("%s cannot be instantiated".formatted(type.getName())));
+		}
+
+		var lookup = MethodHandles.lookup();
+		var columns = new ArrayList<Integer>();
+		var converters = new ArrayList<Converter>();
+		var setters = new ArrayList<MethodHandle>();
+		try {
+			var handle = lookup.unreflectConstructor(accessible(type.getDeclaredConstructor()))
+				.asSpreader(Object[].class, 0)
+				.asType(CONSTRUCTOR_TYPE);
+			for (var i = 0; i < keys.size(); ++i) {
+				var setter = findSetter(type, keys.get(i));
+				if (setter == null) {
+					continue;
+				}
+				columns.add(i);
+				converters.add(converterFor(setter.getParameterTypes()[0]));
+				setters.add(lookup.unreflect(setter).asType(SETTER_TYPE));
+			}
+			return new RecordMapper<>(type, handle, columns.stream().mapToInt(Integer::intValue).toArray(),
+					converters.toArray(Converter[]::new), setters.toArray(MethodHandle[]::new));
+		}
+		catch (NoSuchMethodException | IllegalAccessException ex) {
+			throw new Neo4jException(
+					withInternal(ex, "Could not access the no-args constructor of %s".formatted(type.getName())));
+		}
+	}
+
+	private static Method findSetter(Class<?> type, String column) {
+		if (column.isEmpty()) {
+			return null;
+		}
+		var name = "set" + column.substring(0, 1).toUpperCase(Locale.ROOT) + column.substring(1);
+		Method candidate = null;
+		for (var method : type.getMethods()) {
+			if (method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+			if (method.getName().equals(name)) {
+				return accessible(method);
+			}
+			if (candidate == null && method.getName().equalsIgnoreCase(name)) {
+				candidate = method;
+			}
+		}
+		return (candidate != null) ? accessible(candidate) : null;
+	}
+
+	private static <T extends java.lang.reflect.Executable> T accessible(T executable) {
+		// Public members of non-exported or non-public types still need this
+		executable.trySetAccessible();
+		return executable;
+	}
+
+	private static int indexOf(List<String> keys, String name) {
+		var idx = keys.indexOf(name);
+		if (idx < 0) {
+			for (var i = 0; i < keys.size(); ++i) {
+				if (keys.get(i).equalsIgnoreCase(name)) {
+					return i;
+				}
+			}
+		}
+		return idx;
+	}
+
+	private static Converter converterFor(Class<?> targetType) {
+		Converter converter;
+		if (targetType == boolean.class || targetType == Boolean.class) {
+			converter = (value, maxFieldSize) -> ResultSetImpl.mapToBoolean(value);
+		}
+		else if (targetType == byte.class || targetType == Byte.class) {
+			converter = (value, maxFieldSize) -> ResultSetImpl.mapToByte(value);
+		}
+		else if (targetType == short.class || targetType == Short.class) {
+			converter = (value, maxFieldSize) -> ResultSetImpl.mapToShort(value);
+		}
+		else if (targetType == int.class || targetType == Integer.class) {
+			converter = (value, maxFieldSize) -> ResultSetImpl.mapToInteger(value);
+		}
+		else if (targetType == long.class || targetType == Long.class) {
+			converter = (value, maxFieldSize) -> ResultSetImpl.mapToLong(value);
+		}
+		else if (targetType == float.class || targetType == Float.class) {
+			converter = (value, maxFieldSize) -> ResultSetImpl.mapToFloat(value);
+		}
+		else if (targetType == double.class || targetType == Double.class) {
+			converter = (value, maxFieldSize) -> ResultSetImpl.mapToDouble(value);
+		}
+		else if (targetType == String.class) {
+			converter = ResultSetImpl::mapToString;
+		}
+		else if (targetType == Value.class) {
+			return (value, maxFieldSize) -> value;
+		}
+		else if (targetType == Object.class) {
+			converter = ResultSetImpl::mapToObject;
+		}
+		else {
+			converter = (value, maxFieldSize) -> ResultSetImpl.valueMapperFor(targetType, maxFieldSize).map(value);
+		}
+
+		var defaultValue = targetType.isPrimitive() ? Array.get(Array.newInstance(targetType, 1), 0) : null;
+		var delegate = converter;
+		return (value, maxFieldSize) -> value.isNull() ? defaultValue : delegate.convert(value, maxFieldSize);
+	}
+
+	@FunctionalInterface
+	private interface Converter {
+
+		Object convert(Value value, int maxFieldSize) throws SQLException;
+
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.jdbc.values.Record;
+
+/**
+ * A {@link Flow.Publisher} over the records of a single query. The outstanding demand of
+ * the subscriber is passed on to the {@link Cursor}, which translates it into the size of
+ * the next {@code PULL} when its current batch is exhausted. As pulling blocks, neither
+ * {@link Flow.Subscription#request(long)} nor {@link Flow.Subscription#cancel()} touch
+ * the cursor themselves: they schedule a drain on the given {@link Executor}, which
+ * emits the records and runs at most once at a time per subscription. The publisher
+ * supports exactly one subscriber.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class RecordPublisher implements Flow.Publisher<Record> {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.result-set");
+
+	private final Cursor cursor;
+
+	private final Executor executor;
+
+	private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+	RecordPublisher(Cursor cursor, Executor executor) {
+		this.cursor = Objects.requireNonNull(cursor);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super Record> subscriber) {
+		Objects.requireNonNull(subscriber);
+		if (!this.subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("This publisher supports only one subscriber"));
+			return;
+		}
+		subscriber.onSubscribe(new RecordSubscription(subscriber));
+	}
+
+	/**
+	 * The source of records for a publisher.
+	 */
+	interface Cursor {
+
+		/**
+		 * Returns the next record, pulling a new batch of at most {@code demand} records
+		 * when necessary.
+		 * @param demand the outstanding demand of the subscriber
+		 * @return the next record or {@literal null} if there are no more records
+		 * @throws SQLException if the next record cannot be retrieved
+		 */
+		Record next(long demand) throws SQLException;
+
+		/**
+		 * Releases the resources of this cursor.
+		 * @throws SQLException if closing fails
+		 */
+		void close() throws SQLException;
+
+	}
+
+	private final class RecordSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super Record> subscriber;
+
+		private final AtomicLong requested = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean cancelled;
+
+		private volatile IllegalArgumentException invalidDemand;
+
+		private boolean done;
+
+		RecordSubscription(Flow.Subscriber<? super Record> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				this.invalidDemand = new IllegalArgumentException("Demand must be positive, was " + n);
+			}
+			else {
+				this.requested.getAndUpdate(current -> {
+					var next = current + n;
+					return (next < 0) ? Long.MAX_VALUE : next;
+				});
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+			schedule();
+		}
+
+		private void schedule() {
+			if (this.wip.getAndIncrement() != 0) {
+				return;
+			}
+			try {
+				RecordPublisher.this.executor.execute(this::drain);
+			}
+			catch (RejectedExecutionException ex) {
+				finish();
+				this.subscriber.onError(ex);
+			}
+		}
+
+		private void drain() {
+			int missed = 1;
+			do {
+				var error = this.invalidDemand;
+				if (error != null && !this.done) {
+					finish();
+					this.subscriber.onError(error);
+					return;
+				}
+				long demand = this.requested.get();
+				long emitted = 0;
+				while (emitted != demand && !this.cancelled && !this.done) {
+					Record record;
+					try {
+						record = RecordPublisher.this.cursor.next(demand - emitted);
+					}
+					catch (SQLException ex) {
+						finish();
+						this.subscriber.onError(ex);
+						return;
+					}
+					if (record == null) {
+						finish();
+						this.subscriber.onComplete();
+						return;
+					}
+					this.subscriber.onNext(record);
+					++emitted;
+				}
+				if (this.cancelled && !this.done) {
+					finish();
+					return;
+				}
+				if (emitted != 0 && demand != Long.MAX_VALUE) {
+					this.requested.addAndGet(-emitted);
+				}
+				missed = this.wip.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+
+		private void finish() {
+			this.done = true;
+			try {
+				RecordPublisher.this.cursor.close();
+			}
+			catch (SQLException ex) {
+				LOGGER.log(Level.WARNING, "Could not close cursor after publishing records", ex);
+			}
+		}
+
+	}
+
+}
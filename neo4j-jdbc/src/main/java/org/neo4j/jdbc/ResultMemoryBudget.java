@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Accounts for the estimated memory retained by the batches of records that are buffered
+ * by all open result sets of a driver. When a limit is configured and the retained memory
+ * approaches it, the number of records requested with each {@code PULL} is reduced, and
+ * once the limit is exceeded, pulls are delayed for a short while so that other result
+ * sets get a chance to release their batches. Memory is accounted to the result set
+ * holding it, not to the thread that happened to receive the batch, and a pull is not
+ * delayed when the pulling result set holds the budget itself, as nobody else could
+ * release it. The budget never causes a pull to fail.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class ResultMemoryBudget {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.result-memory-budget");
+
+	/**
+	 * The maximum time a single pull is delayed while the budget is exceeded.
+	 */
+	static final long MAX_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+	private final String id = Integer.toString(SEQUENCE.incrementAndGet());
+
+	private final AtomicLong used = new AtomicLong();
+
+	/**
+	 * The bytes retained per owner, usually a result set. Owners are removed as soon as
+	 * they have released everything they reserved.
+	 */
+	private final Map<Object, Long> usedByOwner = new ConcurrentHashMap<>();
+
+	/**
+	 * Pulls might be delayed on virtual threads, which a monitor would pin to their
+	 * carrier while waiting.
+	 */
+	private final Lock lock = new ReentrantLock();
+
+	private final Condition released = this.lock.newCondition();
+
+	private volatile long limit;
+
+	/**
+	 * Guarded by {@link #lock}.
+	 */
+	private boolean configured;
+
+	/**
+	 * Creates a new budget.
+	 * @param limit the budget in bytes, {@literal 0} or less for no limit
+	 */
+	ResultMemoryBudget(long limit) {
+		this.limit = Math.max(0, limit);
+	}
+
+	/**
+	 * {@return an id distinguishing this budget from the budgets of other drivers}
+	 */
+	String id() {
+		return this.id;
+	}
+
+	/**
+	 * {@return the budget in bytes, {@literal 0} if there is no limit}
+	 */
+	long limit() {
+		return this.limit;
+	}
+
+	/**
+	 * Configures the limit of this budget. The limit can be configured only once, later
+	 * attempts only succeed if they agree with the configured limit.
+	 * @param newLimit the budget in bytes, {@literal 0} or less for no limit
+	 * @return {@literal true} if the budget is now limited by the given value,
+	 * {@literal false} if it has already been configured with a different one
+	 */
+	boolean configure(long newLimit) {
+		var effectiveLimit = Math.max(0, newLimit);
+		this.lock.lock();
+		try {
+			if (!this.configured) {
+				this.limit = effectiveLimit;
+				this.configured = true;
+				this.released.signalAll();
+				return true;
+			}
+			return this.limit == effectiveLimit;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * {@return the estimated number of bytes currently retained}
+	 */
+	long used() {
+		return this.used.get();
+	}
+
+	/**
+	 * Accounts for retained memory.
+	 * @param owner the owner retaining the memory
+	 * @param bytes the estimated number of bytes
+	 */
+	void reserve(Object owner, long bytes) {
+		if (bytes > 0) {
+			this.used.addAndGet(bytes);
+			this.usedByOwner.merge(owner, bytes, Long::sum);
+		}
+	}
+
+	/**
+	 * Releases memory that has been accounted for.
+	 * @param owner the owner that has reserved the memory
+	 * @param bytes the estimated number of bytes
+	 */
+	void release(Object owner, long bytes) {
+		if (bytes > 0) {
+			this.used.addAndGet(-bytes);
+			this.usedByOwner.computeIfPresent(owner, (key, held) -> (held > bytes) ? held - bytes : null);
+			signalAll();
+		}
+	}
+
+	/**
+	 * {@return whether a limit is configured and exceeded by the retained memory}
+	 */
+	boolean isExhausted() {
+		var currentLimit = this.limit;
+		return currentLimit > 0 && this.used.get() >= currentLimit;
+	}
+
+	/**
+	 * Limits the number of records to pull so that they fit into the remaining budget.
+	 * @param requested the number of records that would be requested without a budget
+	 * @param estimatedRecordSize the estimated size of a single record, {@literal 0} if
+	 * unknown
+	 * @return the number of records to request, at least
+	 * {@link AdaptiveFetchSize#MIN_FETCH_SIZE} unless fewer have been requested
+	 */
+	long limitFetchSize(long requested, long estimatedRecordSize) {
+		var currentLimit = this.limit;
+		if (currentLimit <= 0) {
+			return requested;
+		}
+		var available = currentLimit - this.used.get();
+		long affordable;
+		if (available <= 0) {
+			affordable = AdaptiveFetchSize.MIN_FETCH_SIZE;
+		}
+		else if (estimatedRecordSize > 0) {
+			affordable = Math.max(AdaptiveFetchSize.MIN_FETCH_SIZE, available / estimatedRecordSize);
+		}
+		else {
+			affordable = requested;
+		}
+		return Math.min(requested, affordable);
+	}
+
+	/**
+	 * Waits until the retained memory drops below the limit, but not longer than
+	 * {@link #MAX_DELAY_NANOS}. Returns immediately if the memory retained by the given
+	 * owner alone exhausts the budget, as waiting for others would not help.
+	 * @param owner the owner that is about to reserve more memory
+	 */
+	void awaitCapacity(Object owner) {
+		if (!mightGainCapacity(owner)) {
+			return;
+		}
+		LOGGER.log(Level.FINE, "Result memory budget exceeded, delaying pull");
+		this.lock.lock();
+		try {
+			var remaining = MAX_DELAY_NANOS;
+			while (mightGainCapacity(owner) && remaining > 0) {
+				remaining = this.released.awaitNanos(remaining);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private boolean mightGainCapacity(Object owner) {
+		return isExhausted() && this.usedByOwner.getOrDefault(owner, 0L) < this.limit;
+	}
+
+	private void signalAll() {
+		this.lock.lock();
+		try {
+			this.released.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+}
@@ -25,6 +25,7 @@ import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.Buffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Blob;
@@ -42,20 +43,27 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.jdbc.Neo4jException.GQLError;
 import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
@@ -81,10 +89,15 @@ final class ResultSetImpl implements Neo4jResultSet {
 	static final int SUPPORTED_HOLDABILITY = ResultSet.CLOSE_CURSORS_AT_COMMIT;
 
 	/**
-	 * A constant for the only result type we support.
+	 * A constant for the default, forward-only result type.
 	 */
 	static final int SUPPORTED_TYPE = ResultSet.TYPE_FORWARD_ONLY;
 
+	/**
+	 * A constant for the scrollable result type we support.
+	 */
+	static final int SUPPORTED_SCROLLABLE_TYPE = ResultSet.TYPE_SCROLL_INSENSITIVE;
+
 	/**
 	 * A constant for the only concurrency we support.
 	 */
@@ -109,8 +122,40 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private final int maxFieldSize;
 
+	private final double readAheadWatermark;
+
+	private final AdaptiveFetchSize adaptiveFetchSize;
+
+	private final RowBuffer rowBuffer;
+
+	private final ResultMemoryBudget memoryBudget;
+
+	/**
+	 * The estimated number of bytes retained by the current batch and accounted for in
+	 * the memory budget.
+	 */
+	private long retainedBytes;
+
+	private long estimatedRecordSize;
+
+	private RecordMapper<?> recordMapper;
+
+	private int position;
+
+	private boolean rowBufferComplete;
+
+	private boolean discarded;
+
 	private PullResponse batchPullResponse;
 
+	private int batchSize;
+
+	private int consumedInBatch;
+
+	private long pulledAheadRequest;
+
+	private long demand;
+
 	private int fetchSize;
 
 	private int remainingRowAllowance;
@@ -133,14 +178,26 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private final AtomicBoolean afterLast = new AtomicBoolean(false);
 
-	private final Set<ResultSetListener> listeners = new HashSet<>();
+	private final Listeners<ResultSetListener> listeners = new Listeners<>();
+
+	private String id;
+
+	private Map<String, Object> eventContext;
 
 	private boolean openedEventFired;
 
 	private boolean closedEventFired;
 
 	ResultSetImpl(StatementImpl statement, Neo4jTransaction transaction, RunResponse runResponse,
-			PullResponse batchPullResponse, int fetchSize, int maxRowLimit, int maxFieldSize) {
+			PullResponse batchPullResponse, int fetchSize, int maxRowLimit, int maxFieldSize, double readAheadWatermark,
+			AdaptiveFetchSize adaptiveFetchSize) {
+		this(statement, transaction, runResponse, batchPullResponse, fetchSize, maxRowLimit, maxFieldSize,
+				readAheadWatermark, adaptiveFetchSize, null);
+	}
+
+	ResultSetImpl(StatementImpl statement, Neo4jTransaction transaction, RunResponse runResponse,
+			PullResponse batchPullResponse, int fetchSize, int maxRowLimit, int maxFieldSize, double readAheadWatermark,
+			AdaptiveFetchSize adaptiveFetchSize, RowBuffer rowBuffer) {
 		this.statement = Objects.requireNonNull(statement);
 		this.transaction = Objects.requireNonNull(transaction);
 		this.runResponse = Objects.requireNonNull(runResponse);
@@ -149,9 +206,15 @@ final class ResultSetImpl implements Neo4jResultSet {
 		this.remainingRowAllowance = (maxRowLimit > 0) ? maxRowLimit : -1;
 		var recordsBatch = batchPullResponse.records();
 		this.recordsBatchIterator = recordsBatch.iterator();
+		this.batchSize = recordsBatch.size();
 		this.firstRecord = recordsBatch.isEmpty() ? null : recordsBatch.get(0);
-		this.keys = (this.firstRecord != null) ? recordsBatch.get(0).keys() : runResponse.keys();
+		this.keys = ColumnIndex.of((this.firstRecord != null) ? recordsBatch.get(0).keys() : runResponse.keys());
 		this.maxFieldSize = maxFieldSize;
+		this.readAheadWatermark = readAheadWatermark;
+		this.adaptiveFetchSize = adaptiveFetchSize;
+		this.rowBuffer = rowBuffer;
+		this.memoryBudget = statement.getMemoryBudget();
+		retain(batchPullResponse);
 	}
 
 	@Override
@@ -159,12 +222,200 @@ final class ResultSetImpl implements Neo4jResultSet {
 		this.listeners.add(Objects.requireNonNull(resultSetListener));
 	}
 
+	void addListeners(Listeners<ResultSetListener> resultSetListeners) {
+		this.listeners.addAll(resultSetListeners);
+	}
+
+	@Override
+	public Stream<Record> stream() throws SQLException {
+		assertIsOpen();
+		return StreamSupport.stream(new BatchSpliterator(), false).onClose(() -> {
+			try {
+				close();
+			}
+			catch (SQLException ex) {
+				throw new UncheckedSQLException(ex);
+			}
+		});
+	}
+
+	@Override
+	public Flow.Publisher<Record> asPublisher(Executor executor) throws SQLException {
+		assertIsOpen();
+		return new RecordPublisher(new RecordPublisher.Cursor() {
+			@Override
+			public Record next(long demand) throws SQLException {
+				return nextRecord(demand);
+			}
+
+			@Override
+			public void close() throws SQLException {
+				ResultSetImpl.this.close();
+			}
+		}, executor);
+	}
+
+	/**
+	 * Moves the cursor to the next record, using the given demand as size of the next
+	 * batch in case the current one is exhausted.
+	 * @param newDemand the number of records to pull at most
+	 * @return the next record or {@literal null} if there are no more records
+	 * @throws SQLException if the next record cannot be retrieved
+	 */
+	Record nextRecord(long newDemand) throws SQLException {
+		this.demand = newDemand;
+		try {
+			return next() ? this.currentRecord : null;
+		}
+		finally {
+			this.demand = 0;
+		}
+	}
+
+	/**
+	 * Moves the cursor over the remaining records of the current batch, pulling the next
+	 * one if the current batch is already exhausted.
+	 * @return the remaining records of the current batch, empty if there are no more
+	 * records
+	 * @throws SQLException if the next batch cannot be retrieved
+	 */
+	private List<Record> takeRemainingRecordsOfBatch() throws SQLException {
+		if (!next()) {
+			return List.of();
+		}
+		var records = new ArrayList<Record>(Math.max(1, this.batchSize - this.consumedInBatch + 1));
+		records.add(this.currentRecord);
+		while (this.remainingRowAllowance != 0 && this.recordsBatchIterator.hasNext() && next()) {
+			records.add(this.currentRecord);
+		}
+		return records;
+	}
+
+	@Override
+	public <T> T mapTo(Class<T> type) throws SQLException {
+		LOGGER.log(Level.FINEST, () -> "Mapping current row to %s".formatted(type));
+		assertIsOpen();
+		assertCurrentRecordIsNotNull();
+		var mapper = this.recordMapper;
+		if (mapper == null || !mapper.isFor(type)) {
+			mapper = RecordMapper.of(this.keys, type);
+			this.recordMapper = mapper;
+		}
+		return type.cast(mapper.map(this.currentRecord, this.maxFieldSize));
+	}
+
+	@Override
+	public ColumnBatch nextBatch(int maxRows) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Getting next batch of at most %d rows".formatted(maxRows));
+		assertIsOpen();
+		if (maxRows <= 0) {
+			throw new Neo4jException(GQLError.$22N02.withTemplatedMessage("max rows", maxRows));
+		}
+		var records = new ArrayList<Record>(Math.min(maxRows, Math.max(1, this.batchSize - this.consumedInBatch)));
+		while (records.size() < maxRows && (records.isEmpty() || hasMoreInCurrentBatch()) && next()) {
+			records.add(this.currentRecord);
+		}
+		return toColumnBatch(this.keys, records);
+	}
+
+	private boolean hasMoreInCurrentBatch() {
+		if (this.rowBuffer != null) {
+			return this.position < this.rowBuffer.size();
+		}
+		return this.remainingRowAllowance != 0 && this.recordsBatchIterator.hasNext();
+	}
+
+	/**
+	 * Transposes the given records into columns. A column is stored as primitive array if
+	 * all of its non-null values are of the same primitive type.
+	 * @param keys the keys of the result
+	 * @param records the records to transpose
+	 * @return a columnar batch
+	 */
+	static ColumnBatch toColumnBatch(List<String> keys, List<Record> records) {
+		var rowCount = records.size();
+		var columns = new ArrayList<ColumnBatch.Column>(keys.size());
+		for (var i = 0; i < keys.size(); ++i) {
+			Type columnType = null;
+			for (var record : records) {
+				var type = record.get(i).type();
+				if (type == Type.NULL) {
+					continue;
+				}
+				if (columnType == null) {
+					columnType = type;
+				}
+				else if (columnType != type) {
+					columnType = Type.ANY;
+					break;
+				}
+			}
+			columns.add(toColumn(records, i, (columnType != null) ? columnType : Type.ANY));
+		}
+		return new ColumnBatch(keys, rowCount, columns);
+	}
+
+	private static ColumnBatch.Column toColumn(List<Record> records, int index, Type type) {
+		var rowCount = records.size();
+		var nulls = new BitSet(rowCount);
+		switch (type) {
+			case INTEGER -> {
+				var values = new long[rowCount];
+				for (var row = 0; row < rowCount; ++row) {
+					var value = records.get(row).get(index);
+					if (value.isNull()) {
+						nulls.set(row);
+					}
+					else {
+						values[row] = value.asLong();
+					}
+				}
+				return new ColumnBatch.LongColumn(values, nulls);
+			}
+			case FLOAT -> {
+				var values = new double[rowCount];
+				for (var row = 0; row < rowCount; ++row) {
+					var value = records.get(row).get(index);
+					if (value.isNull()) {
+						nulls.set(row);
+					}
+					else {
+						values[row] = value.asDouble();
+					}
+				}
+				return new ColumnBatch.DoubleColumn(values, nulls);
+			}
+			case BOOLEAN -> {
+				var values = new boolean[rowCount];
+				for (var row = 0; row < rowCount; ++row) {
+					var value = records.get(row).get(index);
+					if (value.isNull()) {
+						nulls.set(row);
+					}
+					else {
+						values[row] = value.asBoolean();
+					}
+				}
+				return new ColumnBatch.BooleanColumn(values, nulls);
+			}
+			default -> {
+				var values = new Value[rowCount];
+				for (var row = 0; row < rowCount; ++row) {
+					values[row] = records.get(row).get(index);
+				}
+				return new ColumnBatch.ValueColumn(values);
+			}
+		}
+	}
+
 	@Override
 	public boolean next() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "next");
+		if (this.rowBuffer != null) {
+			return moveTo((long) this.position + 1);
+		}
 		if (this.beforeFirst.compareAndSet(true, false) && !this.openedEventFired) {
-			Events.notify(this.listeners, listener -> listener
-				.onIterationStarted(new IterationStartedEvent(Long.toString(System.identityHashCode(this)))));
+			notifyIterationStarted();
 			this.openedEventFired = true;
 		}
 		var result = next0();
@@ -178,8 +429,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 			this.first.compareAndSet(true, false);
 			this.last.compareAndSet(true, false);
 			if (this.afterLast.compareAndSet(false, true) && this.openedEventFired && !this.closedEventFired) {
-				Events.notify(this.listeners, listener -> listener
-					.onIterationDone(new IterationDoneEvent(Long.toString(System.identityHashCode(this)), true)));
+				notifyIterationDone(true);
 				this.closedEventFired = true;
 			}
 		}
@@ -197,14 +447,37 @@ final class ResultSetImpl implements Neo4jResultSet {
 			this.currentRecord = this.recordsBatchIterator.next();
 			this.currentRow.incrementAndGet();
 			decrementRemainingRowAllowance();
+			if (this.remainingRowAllowance == 0) {
+				discardIfNecessary();
+			}
+			++this.consumedInBatch;
+			pullAheadIfNecessary();
 			return true;
 		}
 		if (this.batchPullResponse.hasMore()) {
-			this.batchPullResponse = this.transaction.pull(this.runResponse, calculateFetchSize());
-			Events.notify(this.listeners, listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.PULLED_NEXT_BATCH,
-					Map.of("source", this.getClass(), "id", Long.toString(System.identityHashCode(this))))));
-			this.recordsBatchIterator = this.batchPullResponse.records().iterator();
-			return next();
+			// The current batch has been consumed and can be released before pulling
+			// the next one
+			release();
+			if (this.memoryBudget != null && this.pulledAheadRequest <= 0) {
+				this.memoryBudget.awaitCapacity(this);
+			}
+			var request = (this.pulledAheadRequest > 0) ? this.pulledAheadRequest : calculateFetchSize();
+			var start = System.nanoTime();
+			this.batchPullResponse = this.transaction.pull(this.runResponse, request);
+			if (this.adaptiveFetchSize != null) {
+				this.adaptiveFetchSize.onBatch(this.batchPullResponse, request, System.nanoTime() - start);
+			}
+			if (!this.listeners.isEmpty()) {
+				this.listeners.notify(new Neo4jEvent(Neo4jEvent.Type.PULLED_NEXT_BATCH, eventContext()),
+						ResultSetListener::on);
+			}
+			var recordsBatch = this.batchPullResponse.records();
+			retain(this.batchPullResponse);
+			this.recordsBatchIterator = recordsBatch.iterator();
+			this.batchSize = recordsBatch.size();
+			this.consumedInBatch = 0;
+			this.pulledAheadRequest = 0;
+			return next0();
 		}
 		this.currentRecord = null;
 		return false;
@@ -216,16 +489,25 @@ final class ResultSetImpl implements Neo4jResultSet {
 		if (this.closed) {
 			return;
 		}
-		if (this.transaction.isAutoCommit() && this.transaction.isRunnable()) {
+		// The transaction of a script must stay open for its results that are still
+		// pending on the statement
+		var pendingResults = this.statement.hasPendingResults();
+		if (!pendingResults && this.transaction.isAutoCommit() && this.transaction.isRunnable()) {
 			this.transaction.commit();
 		}
+		else {
+			discardIfNecessary();
+		}
 		if (this.openedEventFired && !this.closedEventFired) {
-			Events.notify(this.listeners, listener -> listener.onIterationDone(
-					new IterationDoneEvent(Long.toString(System.identityHashCode(this)), this.isAfterLast())));
+			notifyIterationDone(this.isAfterLast());
 			this.closedEventFired = true;
 		}
 		this.closed = true;
-		if (this.statement.isCloseOnCompletion()) {
+		release();
+		if (this.rowBuffer != null) {
+			this.rowBuffer.close();
+		}
+		if (!pendingResults && this.statement.isCloseOnCompletion()) {
 			this.statement.close();
 		}
 	}
@@ -241,11 +523,16 @@ final class ResultSetImpl implements Neo4jResultSet {
 	}
 
 	static void logGet(String type, int columnIndex) {
-		LOGGER.log(Level.FINEST, () -> "Getting %s at %d".formatted(type, columnIndex));
+		// Checked upfront so that the capturing supplier is only allocated when needed
+		if (LOGGER.isLoggable(Level.FINEST)) {
+			LOGGER.log(Level.FINEST, () -> "Getting %s at %d".formatted(type, columnIndex));
+		}
 	}
 
 	static void logGet(String type, String columnLabel) {
-		LOGGER.log(Level.FINEST, () -> "Getting %s at `%s`".formatted(type, columnLabel));
+		if (LOGGER.isLoggable(Level.FINEST)) {
+			LOGGER.log(Level.FINEST, () -> "Getting %s at `%s`".formatted(type, columnLabel));
+		}
 	}
 
 	@Override
@@ -257,43 +544,43 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public boolean getBoolean(int columnIndex) throws SQLException {
 		logGet("Boolean", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToBoolean);
+		return mapToBoolean(getValueByColumnIndex(columnIndex));
 	}
 
 	@Override
 	public byte getByte(int columnIndex) throws SQLException {
 		logGet("Byte", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToByte);
+		return mapToByte(getValueByColumnIndex(columnIndex));
 	}
 
 	@Override
 	public short getShort(int columnIndex) throws SQLException {
 		logGet("Short", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToShort);
+		return mapToShort(getValueByColumnIndex(columnIndex));
 	}
 
 	@Override
 	public int getInt(int columnIndex) throws SQLException {
 		logGet("Int", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToInteger);
+		return mapToInteger(getValueByColumnIndex(columnIndex));
 	}
 
 	@Override
 	public long getLong(int columnIndex) throws SQLException {
-		logGet("Int", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToLong);
+		logGet("Long", columnIndex);
+		return mapToLong(getValueByColumnIndex(columnIndex));
 	}
 
 	@Override
 	public float getFloat(int columnIndex) throws SQLException {
-		logGet("Int", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToFloat);
+		logGet("Float", columnIndex);
+		return mapToFloat(getValueByColumnIndex(columnIndex));
 	}
 
 	@Override
 	public double getDouble(int columnIndex) throws SQLException {
-		logGet("Int", columnIndex);
-		return getValueByColumnIndex(columnIndex, ResultSetImpl::mapToDouble);
+		logGet("Double", columnIndex);
+		return mapToDouble(getValueByColumnIndex(columnIndex));
 	}
 
 	@Override
@@ -354,43 +641,43 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public boolean getBoolean(String columnLabel) throws SQLException {
 		logGet("Boolean", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToBoolean);
+		return mapToBoolean(getValueByColumnLabel(columnLabel));
 	}
 
 	@Override
 	public byte getByte(String columnLabel) throws SQLException {
 		logGet("Byte", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToByte);
+		return mapToByte(getValueByColumnLabel(columnLabel));
 	}
 
 	@Override
 	public short getShort(String columnLabel) throws SQLException {
 		logGet("Short", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToShort);
+		return mapToShort(getValueByColumnLabel(columnLabel));
 	}
 
 	@Override
 	public int getInt(String columnLabel) throws SQLException {
 		logGet("Int", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToInteger);
+		return mapToInteger(getValueByColumnLabel(columnLabel));
 	}
 
 	@Override
 	public long getLong(String columnLabel) throws SQLException {
 		logGet("Long", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToLong);
+		return mapToLong(getValueByColumnLabel(columnLabel));
 	}
 
 	@Override
 	public float getFloat(String columnLabel) throws SQLException {
 		logGet("Float", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToFloat);
+		return mapToFloat(getValueByColumnLabel(columnLabel));
 	}
 
 	@Override
 	public double getDouble(String columnLabel) throws SQLException {
 		logGet("Double", columnLabel);
-		return getValueByColumnLabel(columnLabel, ResultSetImpl::mapToDouble);
+		return mapToDouble(getValueByColumnLabel(columnLabel));
 	}
 
 	@Override
@@ -539,6 +826,10 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public void beforeFirst() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Moving before first");
+		if (this.rowBuffer != null) {
+			moveTo(0);
+			return;
+		}
 		if (this.beforeFirst.compareAndSet(false, false)) {
 			throw new SQLFeatureNotSupportedException(
 					"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support beforeFirst after it has been iterated"
@@ -550,6 +841,10 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public void afterLast() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Moving after first");
+		if (this.rowBuffer != null) {
+			moveTo(Long.MAX_VALUE);
+			return;
+		}
 		while (this.next()) {
 			// Discard everything
 		}
@@ -558,6 +853,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public boolean first() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Moving to first");
+		if (this.rowBuffer != null) {
+			return moveTo(1);
+		}
 		if (this.beforeFirst.compareAndSet(false, false)) {
 			throw new SQLFeatureNotSupportedException(
 					"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support first after it has been iterated"
@@ -569,6 +867,10 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public boolean last() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Moving to last");
+		if (this.rowBuffer != null) {
+			fillRowBuffer(Long.MAX_VALUE);
+			return moveTo(this.rowBuffer.size());
+		}
 		if (this.afterLast.compareAndSet(true, true)) {
 			throw new SQLFeatureNotSupportedException(
 					"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support last after it has been fully iterated"
@@ -590,6 +892,14 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	@Override
 	public boolean absolute(int row) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Moving to row %d".formatted(row));
+		if (this.rowBuffer != null) {
+			if (row >= 0) {
+				return moveTo(row);
+			}
+			fillRowBuffer(Long.MAX_VALUE);
+			return moveTo(Math.max(0L, (long) this.rowBuffer.size() + 1 + row));
+		}
 		throw new SQLFeatureNotSupportedException(
 				"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support absolute scrolling"
 					.formatted(SUPPORTED_TYPE));
@@ -597,6 +907,10 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	@Override
 	public boolean relative(int rows) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Moving by %d rows".formatted(rows));
+		if (this.rowBuffer != null) {
+			return moveTo(Math.max(0L, (long) this.position + rows));
+		}
 		throw new SQLFeatureNotSupportedException(
 				"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support relative scrolling"
 					.formatted(SUPPORTED_TYPE));
@@ -604,6 +918,10 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	@Override
 	public boolean previous() throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Moving to previous row");
+		if (this.rowBuffer != null) {
+			return moveTo(Math.max(0L, (long) this.position - 1));
+		}
 		throw new SQLFeatureNotSupportedException(
 				"This result set is of type TYPE_FORWARD_ONLY (%d) and does not support previous scrolling"
 					.formatted(SUPPORTED_TYPE));
@@ -613,7 +931,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 	public void setFetchDirection(int direction) throws SQLException {
 		LOGGER.log(Level.WARNING, () -> "Setting fetch direction to %d (ignored)".formatted(direction));
 		assertIsOpen();
-		if (direction != SUPPORTED_FETCH_DIRECTION) {
+		if (direction != SUPPORTED_FETCH_DIRECTION && this.rowBuffer == null) {
 			throw new SQLFeatureNotSupportedException("Only forward fetching is supported");
 		}
 	}
@@ -639,7 +957,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public int getType() {
 		LOGGER.log(Level.FINER, () -> "Getting type");
-		return SUPPORTED_TYPE;
+		return (this.rowBuffer != null) ? SUPPORTED_SCROLLABLE_TYPE : SUPPORTED_TYPE;
 	}
 
 	@Override
@@ -1294,11 +1612,18 @@ final class ResultSetImpl implements Neo4jResultSet {
 		return getValueByColumnLabel(columnLabel, valueMapperFor(type, this.maxFieldSize));
 	}
 
-	private static <T> ValueMapper<T> valueMapperFor(Class<T> type, int maxFieldSize) {
+	static <T> ValueMapper<T> valueMapperFor(Class<T> type, int maxFieldSize) {
 		return value -> {
 			if (type.isInstance(value)) {
 				return type.cast(value);
 			}
+			if (Buffer.class.isAssignableFrom(type) && Type.VECTOR.isTypeOf(value)) {
+				// Read-only view on the elements of the vector, avoiding a copy
+				var buffer = value.asVector().asBuffer();
+				if (type.isInstance(buffer)) {
+					return type.cast(buffer);
+				}
+			}
 			var optionalJSONMapper = JSONMappers.INSTANCE.getMapper(type.getName());
 			return optionalJSONMapper.map(mapper -> {
 				Object json = mapper.toJson(value);
@@ -1364,24 +1689,196 @@ final class ResultSetImpl implements Neo4jResultSet {
 	}
 
 	private <T> T getValueByColumnIndex(int columnIndex, ValueMapper<T> valueMapper) throws SQLException {
+		return valueMapper.map(getValueByColumnIndex(columnIndex));
+	}
+
+	/**
+	 * Retrieves the value of the given column in the current row. Getters for primitive
+	 * types map the returned value directly instead of going through a
+	 * {@link ValueMapper}, so that their result is not boxed. The value itself has been
+	 * created when the row was decoded; records whose values are resolved lazily only
+	 * unwrap it on first access.
+	 * @param columnIndex the 1-based index of the column
+	 * @return the value of the column
+	 * @throws SQLException if the result set is closed, not on a valid row or the column
+	 * does not exist
+	 */
+	private Value getValueByColumnIndex(int columnIndex) throws SQLException {
 		assertIsOpen();
 		assertCurrentRecordIsNotNull();
 		assertColumnIndexIsPresent(columnIndex);
-		columnIndex--;
-		this.value = this.currentRecord.get(columnIndex);
-		return valueMapper.map(this.value);
+		this.value = this.currentRecord.get(columnIndex - 1);
+		return this.value;
 	}
 
 	private <T> T getValueByColumnLabel(String columnLabel, ValueMapper<T> valueMapper) throws SQLException {
+		return valueMapper.map(getValueByColumnLabel(columnLabel));
+	}
+
+	private Value getValueByColumnLabel(String columnLabel) throws SQLException {
 		assertIsOpen();
 		assertCurrentRecordIsNotNull();
 		assertColumnLabelIsPresent(columnLabel);
 		this.value = this.currentRecord.get(columnLabel);
-		return valueMapper.map(this.value);
+		return this.value;
+	}
+
+	/**
+	 * Requests the next batch from the server once the configured fraction of the current
+	 * batch has been consumed, so that the network round trip overlaps with the
+	 * processing of the remaining rows.
+	 * @throws SQLException if the transaction is not in a state to pull records
+	 */
+	private void pullAheadIfNecessary() throws SQLException {
+		if (this.readAheadWatermark <= 0.0 || this.pulledAheadRequest > 0 || !this.batchPullResponse.hasMore()
+				|| this.consumedInBatch < Math.ceil(this.batchSize * this.readAheadWatermark)) {
+			return;
+		}
+		// Reading ahead would retain two batches at once, so it is skipped while the
+		// budget is exceeded and the next batch is pulled once this one is released
+		if (this.memoryBudget != null && this.memoryBudget.isExhausted()) {
+			return;
+		}
+		long request = currentFetchSize();
+		if (this.remainingRowAllowance >= 0) {
+			var remainingAfterBatch = this.remainingRowAllowance - (this.batchSize - this.consumedInBatch);
+			if (remainingAfterBatch <= 0) {
+				return;
+			}
+			request = Math.min(remainingAfterBatch, request);
+		}
+		this.transaction.pullAhead(this.runResponse, request);
+		this.pulledAheadRequest = request;
+	}
+
+	private long calculateFetchSize() {
+		long currentFetchSize = (this.demand > 0) ? this.demand : currentFetchSize();
+		return (this.remainingRowAllowance > 0) ? Math.min(this.remainingRowAllowance, currentFetchSize)
+				: currentFetchSize;
+	}
+
+	private long currentFetchSize() {
+		long currentFetchSize = (this.adaptiveFetchSize != null) ? this.adaptiveFetchSize.get() : this.fetchSize;
+		return (this.memoryBudget != null)
+				? this.memoryBudget.limitFetchSize(currentFetchSize, this.estimatedRecordSize) : currentFetchSize;
+	}
+
+	private void notifyIterationStarted() {
+		if (!this.listeners.isEmpty()) {
+			this.listeners.notify(new IterationStartedEvent(id()), ResultSetListener::onIterationStarted);
+		}
+	}
+
+	private void notifyIterationDone(boolean exhausted) {
+		if (!this.listeners.isEmpty()) {
+			this.listeners.notify(new IterationDoneEvent(id(), exhausted), ResultSetListener::onIterationDone);
+		}
+	}
+
+	private String id() {
+		if (this.id == null) {
+			this.id = Long.toString(System.identityHashCode(this));
+		}
+		return this.id;
+	}
+
+	private Map<String, Object> eventContext() {
+		if (this.eventContext == null) {
+			this.eventContext = Map.of("source", this.getClass(), "id", id());
+		}
+		return this.eventContext;
+	}
+
+	/**
+	 * Replaces the batch accounted for in the memory budget with the records of the
+	 * given batch.
+	 * @param batch the new batch
+	 */
+	private void retain(PullResponse batch) {
+		if (this.memoryBudget == null) {
+			return;
+		}
+		release();
+		var records = batch.records();
+		if (records.isEmpty()) {
+			return;
+		}
+		this.estimatedRecordSize = AdaptiveFetchSize.estimateRecordSize(batch);
+		this.retainedBytes = this.estimatedRecordSize * records.size();
+		this.memoryBudget.reserve(this, this.retainedBytes);
 	}
 
-	private int calculateFetchSize() {
-		return (this.remainingRowAllowance > 0) ? Math.min(this.remainingRowAllowance, this.fetchSize) : this.fetchSize;
+	/**
+	 * Releases the batch accounted for in the memory budget without replacement.
+	 */
+	private void release() {
+		if (this.memoryBudget == null) {
+			return;
+		}
+		this.memoryBudget.release(this, this.retainedBytes);
+		this.retainedBytes = 0;
+	}
+
+	/**
+	 * Moves the cursor of a scrollable result set to the given row, reading records into
+	 * the row buffer as necessary.
+	 * @param row the row to move to, {@literal 0} being before the first row
+	 * @return {@literal true} if the cursor is on a valid row
+	 * @throws SQLException if the records cannot be retrieved
+	 */
+	private boolean moveTo(long row) throws SQLException {
+		assertIsOpen();
+		if (!this.openedEventFired) {
+			notifyIterationStarted();
+			this.openedEventFired = true;
+		}
+		// Reading one row ahead is necessary to determine whether the cursor is on the
+		// last row
+		fillRowBuffer((row == Long.MAX_VALUE) ? row : row + 1);
+		var size = this.rowBuffer.size();
+		var onRow = row >= 1 && row <= size;
+		if (onRow) {
+			this.position = (int) row;
+			this.currentRecord = this.rowBuffer.get(this.position - 1);
+		}
+		else {
+			this.position = (row < 1) ? 0 : size + 1;
+			this.currentRecord = null;
+		}
+		this.currentRow.set(onRow ? this.position : 0);
+		this.beforeFirst.set(this.position == 0);
+		this.afterLast.set(this.position > size);
+		this.first.set(onRow && this.position == 1);
+		this.last.set(onRow && this.position == size && this.rowBufferComplete);
+		return onRow;
+	}
+
+	private void fillRowBuffer(long rows) throws SQLException {
+		while (!this.rowBufferComplete && this.rowBuffer.size() < rows) {
+			if (next0()) {
+				this.rowBuffer.add(this.currentRecord);
+			}
+			else {
+				this.rowBufferComplete = true;
+				if (this.openedEventFired && !this.closedEventFired) {
+					notifyIterationDone(true);
+					this.closedEventFired = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Discards the remaining records on the server if this result set will not read them,
+	 * so that the server can release the resources of the query before the transaction
+	 * ends.
+	 * @throws SQLException if the transaction is not in a state to discard records
+	 */
+	private void discardIfNecessary() throws SQLException {
+		if (!this.discarded && this.batchPullResponse.hasMore() && this.transaction.isRunnable()) {
+			this.transaction.discard(this.runResponse);
+			this.discarded = true;
+		}
 	}
 
 	private void decrementRemainingRowAllowance() {
@@ -1390,7 +1887,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 		}
 	}
 
-	private static String mapToString(Value value, int maxFieldSize) throws SQLException {
+	static String mapToString(Value value, int maxFieldSize) throws SQLException {
 		if (Type.STRING.isTypeOf(value)) {
 			return truncate(value.asString(), maxFieldSize);
 		}
@@ -1425,7 +1922,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "URL"));
 	}
 
-	private static boolean mapToBoolean(Value value) throws SQLException {
+	static boolean mapToBoolean(Value value) throws SQLException {
 		if (Type.BOOLEAN.isTypeOf(value)) {
 			return value.asBoolean();
 		}
@@ -1433,7 +1930,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 			return false;
 		}
 		if (Type.INTEGER.isTypeOf(value)) {
-			var number = value.asNumber().longValue();
+			var number = value.asLong();
 			if (number == 0) {
 				return false;
 			}
@@ -1461,9 +1958,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "boolean"));
 	}
 
-	private static Byte mapToByte(Value value) throws SQLException {
+	static byte mapToByte(Value value) throws SQLException {
 		if (Type.INTEGER.isTypeOf(value)) {
-			var longValue = value.asNumber().longValue();
+			var longValue = value.asLong();
 			if (longValue >= Byte.MIN_VALUE && longValue <= Byte.MAX_VALUE) {
 				return (byte) longValue;
 			}
@@ -1475,9 +1972,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "byte"));
 	}
 
-	private static Short mapToShort(Value value) throws SQLException {
+	static short mapToShort(Value value) throws SQLException {
 		if (Type.INTEGER.isTypeOf(value)) {
-			var longValue = value.asNumber().longValue();
+			var longValue = value.asLong();
 			if (longValue >= Short.MIN_VALUE && longValue <= Short.MAX_VALUE) {
 				return (short) longValue;
 			}
@@ -1490,9 +1987,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	}
 
-	private static int mapToInteger(Value value) throws SQLException {
+	static int mapToInteger(Value value) throws SQLException {
 		if (Type.INTEGER.isTypeOf(value)) {
-			var longValue = value.asNumber().longValue();
+			var longValue = value.asLong();
 			if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
 				return (int) longValue;
 			}
@@ -1513,9 +2010,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "int"));
 	}
 
-	private static long mapToLong(Value value) throws SQLException {
+	static long mapToLong(Value value) throws SQLException {
 		if (Type.INTEGER.isTypeOf(value)) {
-			return value.asNumber().longValue();
+			return value.asLong();
 		}
 		if (Type.NULL.isTypeOf(value)) {
 			return 0L;
@@ -1532,9 +2029,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "long"));
 	}
 
-	private static float mapToFloat(Value value) throws SQLException {
+	static float mapToFloat(Value value) throws SQLException {
 		if (Type.FLOAT.isTypeOf(value)) {
-			var doubleValue = value.asNumber().doubleValue();
+			var doubleValue = value.asDouble();
 			var floatValue = (float) doubleValue;
 			if (Double.compare(doubleValue, floatValue) == 0) {
 				return floatValue;
@@ -1547,9 +2044,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "float"));
 	}
 
-	private static double mapToDouble(Value value) throws SQLException {
+	static double mapToDouble(Value value) throws SQLException {
 		if (Type.FLOAT.isTypeOf(value)) {
-			return value.asNumber().doubleValue();
+			return value.asDouble();
 		}
 		if (Type.NULL.isTypeOf(value)) {
 			return 0.0;
@@ -1626,7 +2123,7 @@ final class ResultSetImpl implements Neo4jResultSet {
 		throw new Neo4jException(GQLError.$22N37.withTemplatedMessage(value.toDisplayString(), "java.io.InputStream"));
 	}
 
-	private static Object mapToObject(Value value, int maxFieldSize) {
+	static Object mapToObject(Value value, int maxFieldSize) {
 		if (Type.STRING.isTypeOf(value)) {
 			return truncate(value.asString(), maxFieldSize);
 		}
@@ -1657,10 +2154,54 @@ final class ResultSetImpl implements Neo4jResultSet {
 	}
 
 	@FunctionalInterface
-	private interface ValueMapper<T> {
+	interface ValueMapper<T> {
 
 		T map(Value value) throws SQLException;
 
 	}
 
+	/**
+	 * A spliterator that hands off whole batches when split, so that a batch can be
+	 * processed while the next one is pulled.
+	 */
+	private final class BatchSpliterator implements Spliterator<Record> {
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Record> action) {
+			try {
+				if (!next()) {
+					return false;
+				}
+			}
+			catch (SQLException ex) {
+				throw new UncheckedSQLException(ex);
+			}
+			action.accept(ResultSetImpl.this.currentRecord);
+			return true;
+		}
+
+		@Override
+		public Spliterator<Record> trySplit() {
+			try {
+				var records = takeRemainingRecordsOfBatch();
+				return records.isEmpty() ? null
+						: Spliterators.spliterator(records, Spliterator.ORDERED | Spliterator.NONNULL);
+			}
+			catch (SQLException ex) {
+				throw new UncheckedSQLException(ex);
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.NONNULL;
+		}
+
+	}
+
 }
@@ -0,0 +1,509 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+import org.neo4j.jdbc.values.Vector;
+
+import static org.neo4j.jdbc.Neo4jException.withInternal;
+
+/**
+ * An append-only buffer of records backing scrollable result sets. Records are kept on
+ * the heap as they are until their estimated size exceeds a threshold. All records added
+ * after that are encoded into a compact binary format and written to a memory-mapped
+ * temporary file, so that large results can be scrolled without holding them on the
+ * heap. Values that cannot be encoded (nodes, relationships, paths and unsupported types)
+ * are rare in tabular results and are kept on the heap. Both the threshold and the size
+ * of the mapped regions are configurable per driver.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class RowBuffer implements AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.result-set");
+
+	/**
+	 * The default number of bytes records may occupy on the heap before they are spilled
+	 * to disk.
+	 */
+	static final long DEFAULT_MEMORY_THRESHOLD = 32L * 1024 * 1024;
+
+	/**
+	 * The default size of a single memory-mapped region of the spill file.
+	 */
+	static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	private static final int NOT_ENCODED = -1;
+
+	private final long memoryThreshold;
+
+	private final int segmentSize;
+
+	private final List<Record> onHeap = new ArrayList<>();
+
+	private final Map<Integer, Record> notEncoded = new HashMap<>();
+
+	private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+	private long heapBytes;
+
+	private int size;
+
+	private List<String> keys;
+
+	private Path spillFile;
+
+	private FileChannel channel;
+
+	private long[] offsets = new long[0];
+
+	private long writePosition;
+
+	RowBuffer() {
+		this(DEFAULT_MEMORY_THRESHOLD, DEFAULT_SEGMENT_SIZE);
+	}
+
+	RowBuffer(long memoryThreshold, int segmentSize) {
+		this.memoryThreshold = memoryThreshold;
+		this.segmentSize = segmentSize;
+	}
+
+	void add(Record record) throws SQLException {
+		if (this.channel == null && this.heapBytes < this.memoryThreshold) {
+			this.onHeap.add(record);
+			this.heapBytes += AdaptiveFetchSize.estimateSize(record);
+		}
+		else {
+			spill(record);
+		}
+		++this.size;
+	}
+
+	Record get(int index) throws SQLException {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException(index);
+		}
+		if (index < this.onHeap.size()) {
+			return this.onHeap.get(index);
+		}
+		var offset = this.offsets[index - this.onHeap.size()];
+		if (offset == NOT_ENCODED) {
+			return this.notEncoded.get(index);
+		}
+		var segment = this.segments.get((int) (offset / this.segmentSize));
+		var position = (int) (offset % this.segmentSize);
+		var bytes = new byte[segment.getInt(position)];
+		segment.get(position + Integer.BYTES, bytes);
+		try {
+			return decode(this.keys, bytes);
+		}
+		catch (IOException ex) {
+			throw new Neo4jException(withInternal(ex));
+		}
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	boolean isSpilled() {
+		return this.channel != null;
+	}
+
+	@Override
+	public void close() {
+		this.onHeap.clear();
+		this.notEncoded.clear();
+		// Mapped regions are only unmapped once they are unreachable, so no reference
+		// must survive closing the buffer
+		this.segments.clear();
+		this.offsets = new long[0];
+		this.keys = null;
+		this.heapBytes = 0;
+		this.writePosition = 0;
+		this.size = 0;
+		if (this.channel == null) {
+			return;
+		}
+		try {
+			this.channel.close();
+			Files.deleteIfExists(this.spillFile);
+		}
+		catch (IOException ex) {
+			LOGGER.log(Level.WARNING, ex, () -> "Could not delete spill file %s".formatted(this.spillFile));
+		}
+		finally {
+			this.channel = null;
+			this.spillFile = null;
+		}
+	}
+
+	private void spill(Record record) throws SQLException {
+		var index = this.size - this.onHeap.size();
+		if (index == this.offsets.length) {
+			this.offsets = Arrays.copyOf(this.offsets, Math.max(1024, index * 2));
+		}
+		var bytes = encode(record);
+		if (bytes == null || bytes.length + Integer.BYTES > this.segmentSize) {
+			this.offsets[index] = NOT_ENCODED;
+			this.notEncoded.put(this.size, record);
+			return;
+		}
+		try {
+			if (this.channel == null) {
+				this.spillFile = Files.createTempFile("neo4j-jdbc-", ".rows");
+				this.channel = FileChannel.open(this.spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE,
+						StandardOpenOption.DELETE_ON_CLOSE);
+				this.keys = record.keys();
+			}
+			var length = bytes.length + Integer.BYTES;
+			if (this.writePosition % this.segmentSize + length > this.segmentSize) {
+				// Records never straddle two segments
+				this.writePosition = (this.writePosition / this.segmentSize + 1) * this.segmentSize;
+			}
+			var segmentIndex = (int) (this.writePosition / this.segmentSize);
+			if (segmentIndex == this.segments.size()) {
+				this.segments.add(this.channel.map(FileChannel.MapMode.READ_WRITE,
+						(long) segmentIndex * this.segmentSize, this.segmentSize));
+			}
+			var segment = this.segments.get(segmentIndex);
+			var position = (int) (this.writePosition % this.segmentSize);
+			segment.putInt(position, bytes.length);
+			segment.put(position + Integer.BYTES, bytes);
+			this.offsets[index] = this.writePosition;
+			this.writePosition += length;
+		}
+		catch (IOException ex) {
+			throw new Neo4jException(withInternal(ex));
+		}
+	}
+
+	/**
+	 * Encodes the values of a record.
+	 * @param record the record to encode
+	 * @return the encoded record or {@literal null} if the record contains values that
+	 * cannot be encoded
+	 */
+	static byte[] encode(Record record) {
+		var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			out.writeInt(record.size());
+			for (var value : record.values()) {
+				if (!encode(value, out)) {
+					return null;
+				}
+			}
+		}
+		catch (IOException ex) {
+			// Not thrown by in-memory streams
+			throw new IllegalStateException(ex);
+		}
+		return bytes.toByteArray();
+	}
+
+	static Record decode(List<String> keys, byte[] bytes) throws IOException {
+		var in = new DataInputStream(new ByteArrayInputStream(bytes));
+		var values = new Value[in.readInt()];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = decode(in);
+		}
+		return Record.of(keys, values);
+	}
+
+	private static boolean encode(Value value, DataOutput out) throws IOException {
+		switch (value.type()) {
+			case NULL -> out.writeByte(0);
+			case BOOLEAN -> {
+				out.writeByte(1);
+				out.writeBoolean(value.asBoolean());
+			}
+			case INTEGER -> {
+				out.writeByte(2);
+				out.writeLong(value.asLong());
+			}
+			case FLOAT -> {
+				out.writeByte(3);
+				out.writeDouble(value.asDouble());
+			}
+			case STRING -> {
+				out.writeByte(4);
+				writeBytes(value.asString().getBytes(StandardCharsets.UTF_8), out);
+			}
+			case BYTES -> {
+				out.writeByte(5);
+				writeBytes(value.asByteArray(), out);
+			}
+			case LIST -> {
+				out.writeByte(6);
+				out.writeInt(value.size());
+				for (var element : value.values()) {
+					if (!encode(element, out)) {
+						return false;
+					}
+				}
+			}
+			case MAP -> {
+				out.writeByte(7);
+				out.writeInt(value.size());
+				for (var key : value.keys()) {
+					writeBytes(key.getBytes(StandardCharsets.UTF_8), out);
+					if (!encode(value.get(key), out)) {
+						return false;
+					}
+				}
+			}
+			case DATE -> {
+				out.writeByte(8);
+				out.writeLong(value.asLocalDate().toEpochDay());
+			}
+			case TIME -> {
+				var time = value.asOffsetTime();
+				out.writeByte(9);
+				out.writeLong(time.toLocalTime().toNanoOfDay());
+				out.writeInt(time.getOffset().getTotalSeconds());
+			}
+			case LOCAL_TIME -> {
+				out.writeByte(10);
+				out.writeLong(value.asLocalTime().toNanoOfDay());
+			}
+			case LOCAL_DATE_TIME -> {
+				var dateTime = value.asLocalDateTime();
+				out.writeByte(11);
+				out.writeLong(dateTime.toLocalDate().toEpochDay());
+				out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+			}
+			case DATE_TIME -> {
+				ZonedDateTime dateTime;
+				try {
+					dateTime = value.asZonedDateTime();
+				}
+				catch (RuntimeException ex) {
+					return false;
+				}
+				out.writeByte(12);
+				out.writeLong(dateTime.toLocalDate().toEpochDay());
+				out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+				writeBytes(dateTime.getZone().getId().getBytes(StandardCharsets.UTF_8), out);
+				out.writeInt(dateTime.getOffset().getTotalSeconds());
+			}
+			case DURATION -> {
+				var duration = value.asIsoDuration();
+				out.writeByte(13);
+				out.writeLong(duration.months());
+				out.writeLong(duration.days());
+				out.writeLong(duration.seconds());
+				out.writeInt(duration.nanoseconds());
+			}
+			case POINT -> {
+				var point = value.asPoint();
+				out.writeByte(14);
+				out.writeInt(point.srid());
+				out.writeDouble(point.x());
+				out.writeDouble(point.y());
+				out.writeDouble(point.z());
+			}
+			case VECTOR -> {
+				out.writeByte(15);
+				return encode(value.asVector(), out);
+			}
+			default -> {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean encode(Vector vector, DataOutput out) throws IOException {
+		out.writeByte(vector.elementType().ordinal());
+		out.writeInt(vector.size());
+		if (vector instanceof Vector.Int8Vector int8Vector) {
+			out.write(int8Vector.toArray());
+		}
+		else if (vector instanceof Vector.Int16Vector int16Vector) {
+			for (var element : int16Vector.toArray()) {
+				out.writeShort(element);
+			}
+		}
+		else if (vector instanceof Vector.Int32Vector int32Vector) {
+			for (var element : int32Vector.toArray()) {
+				out.writeInt(element);
+			}
+		}
+		else if (vector instanceof Vector.Int64Vector int64Vector) {
+			for (var element : int64Vector.toArray()) {
+				out.writeLong(element);
+			}
+		}
+		else if (vector instanceof Vector.Float32Vector float32Vector) {
+			for (var element : float32Vector.toArray()) {
+				out.writeFloat(element);
+			}
+		}
+		else if (vector instanceof Vector.Float64Vector float64Vector) {
+			for (var element : float64Vector.toArray()) {
+				out.writeDouble(element);
+			}
+		}
+		else {
+			return false;
+		}
+		return true;
+	}
+
+	private static Value decode(DataInput in) throws IOException {
+		return switch (in.readByte()) {
+			case 0 -> Values.NULL;
+			case 1 -> Values.value(in.readBoolean());
+			case 2 -> Values.value(in.readLong());
+			case 3 -> Values.value(in.readDouble());
+			case 4 -> Values.value(new String(readBytes(in), StandardCharsets.UTF_8));
+			case 5 -> Values.value(readBytes(in));
+			case 6 -> {
+				var elements = new Value[in.readInt()];
+				for (int i = 0; i < elements.length; ++i) {
+					elements[i] = decode(in);
+				}
+				yield Values.value(elements);
+			}
+			case 7 -> {
+				var size = in.readInt();
+				var entries = new LinkedHashMap<String, Object>((int) (size / 0.75f) + 1);
+				for (int i = 0; i < size; ++i) {
+					entries.put(new String(readBytes(in), StandardCharsets.UTF_8), decode(in));
+				}
+				yield Values.value(entries);
+			}
+			case 8 -> Values.value(LocalDate.ofEpochDay(in.readLong()));
+			case 9 -> Values
+				.value(OffsetTime.of(LocalTime.ofNanoOfDay(in.readLong()), ZoneOffset.ofTotalSeconds(in.readInt())));
+			case 10 -> Values.value(LocalTime.ofNanoOfDay(in.readLong()));
+			case 11 -> Values
+				.value(LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong())));
+			case 12 -> {
+				var localDateTime = LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()),
+						LocalTime.ofNanoOfDay(in.readLong()));
+				var zone = ZoneId.of(new String(readBytes(in), StandardCharsets.UTF_8));
+				var offset = ZoneOffset.ofTotalSeconds(in.readInt());
+				yield Values.value(ZonedDateTime.ofLocal(localDateTime, zone, offset));
+			}
+			case 13 -> Values.isoDuration(in.readLong(), in.readLong(), in.readLong(), in.readInt());
+			case 14 -> {
+				var srid = in.readInt();
+				var x = in.readDouble();
+				var y = in.readDouble();
+				var z = in.readDouble();
+				yield Double.isNaN(z) ? Values.point(srid, x, y) : Values.point(srid, x, y, z);
+			}
+			case 15 -> decodeVector(in).asValue();
+			default -> throw new IOException("Unknown value marker");
+		};
+	}
+
+	private static Vector decodeVector(DataInput in) throws IOException {
+		var elementType = Vector.ElementType.values()[in.readByte()];
+		var size = in.readInt();
+		return switch (elementType) {
+			case INTEGER8 -> {
+				var elements = new byte[size];
+				in.readFully(elements);
+				yield Vector.of(elements);
+			}
+			case INTEGER16 -> {
+				var elements = new short[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readShort();
+				}
+				yield Vector.of(elements);
+			}
+			case INTEGER32 -> {
+				var elements = new int[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readInt();
+				}
+				yield Vector.of(elements);
+			}
+			case INTEGER -> {
+				var elements = new long[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readLong();
+				}
+				yield Vector.of(elements);
+			}
+			case FLOAT32 -> {
+				var elements = new float[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readFloat();
+				}
+				yield Vector.of(elements);
+			}
+			case FLOAT -> {
+				var elements = new double[size];
+				for (int i = 0; i < size; ++i) {
+					elements[i] = in.readDouble();
+				}
+				yield Vector.of(elements);
+			}
+		};
+	}
+
+	private static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static byte[] readBytes(DataInput in) throws IOException {
+		var bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+}
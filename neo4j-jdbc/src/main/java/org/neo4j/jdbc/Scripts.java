@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Some internal utilities around scripts, that is: several statements separated by
+ * semicolons.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.9.0
+ */
+final class Scripts {
+
+	/**
+	 * Splits a script into its statements. Semicolons inside of quoted strings, quoted
+	 * identifiers and comments don't separate statements. Both Cypher ({@code //}) and
+	 * SQL ({@code --}) line comments are recognized, the latter only when followed by a
+	 * whitespace and not directly preceded by a closing parenthesis, a closing bracket, a
+	 * {@code <} or another dash. The next character that is not a whitespace must not be
+	 * an opening parenthesis or bracket either, so that Cypher relationship patterns such
+	 * as {@code (a) -- (b)} are not mistaken for comments. Statements consisting only of
+	 * whitespace and comments are dropped. Backslashes escape the next character inside
+	 * of Cypher strings only, in SQL a backslash is an ordinary character.
+	 * @param script the script to split
+	 * @param cypher whether the script is Cypher or SQL
+	 * @return the statements of the script, without their terminating semicolons
+	 */
+	static List<String> split(String script, boolean cypher) {
+		var statements = new ArrayList<String>();
+		var length = script.length();
+		var start = 0;
+		var hasContent = false;
+		var i = 0;
+		while (i < length) {
+			var c = script.charAt(i);
+			if (c == '\'' || c == '"' || c == '`') {
+				i = skipQuoted(script, i, cypher);
+				hasContent = true;
+			}
+			else if (c == '/' && charAt(script, i + 1) == '*') {
+				i = skipBlockComment(script, i);
+			}
+			else if ((c == '/' && charAt(script, i + 1) == '/') || isDashComment(script, i)) {
+				i = skipLineComment(script, i);
+			}
+			else if (c == ';') {
+				if (hasContent) {
+					statements.add(script.substring(start, i).strip());
+				}
+				hasContent = false;
+				start = ++i;
+			}
+			else {
+				hasContent = hasContent || !Character.isWhitespace(c);
+				++i;
+			}
+		}
+		if (hasContent) {
+			statements.add(script.substring(start).strip());
+		}
+		return statements;
+	}
+
+	private static char charAt(String script, int index) {
+		return (index < script.length()) ? script.charAt(index) : 0;
+	}
+
+	private static boolean isDashComment(String script, int index) {
+		if (script.charAt(index) != '-' || charAt(script, index + 1) != '-') {
+			return false;
+		}
+		var next = charAt(script, index + 2);
+		var previous = (index > 0) ? script.charAt(index - 1) : ' ';
+		if (!(next == 0 || Character.isWhitespace(next)) || ")]<-".indexOf(previous) >= 0) {
+			return false;
+		}
+		var i = index + 2;
+		while (i < script.length() && Character.isWhitespace(script.charAt(i))) {
+			++i;
+		}
+		var nextNonBlank = charAt(script, i);
+		return nextNonBlank != '(' && nextNonBlank != '[';
+	}
+
+	/**
+	 * Skips a quoted string or identifier. Quotes are escaped by doubling them, inside
+	 * Cypher strings a backslash escapes the next character as well.
+	 * @param script the script
+	 * @param index the index of the opening quote
+	 * @param cypher whether the script is Cypher or SQL
+	 * @return the index right after the closing quote
+	 */
+	private static int skipQuoted(String script, int index, boolean cypher) {
+		var quote = script.charAt(index);
+		var i = index + 1;
+		while (i < script.length()) {
+			var c = script.charAt(i);
+			if (c == '\\' && cypher && quote != '`') {
+				i += 2;
+			}
+			else if (c == quote) {
+				return i + 1;
+			}
+			else {
+				++i;
+			}
+		}
+		return script.length();
+	}
+
+	private static int skipBlockComment(String script, int index) {
+		var end = script.indexOf("*/", index + 2);
+		return (end < 0) ? script.length() : end + 2;
+	}
+
+	private static int skipLineComment(String script, int index) {
+		var end = script.indexOf('\n', index);
+		return (end < 0) ? script.length() : end + 1;
+	}
+
+	private Scripts() {
+	}
+
+}
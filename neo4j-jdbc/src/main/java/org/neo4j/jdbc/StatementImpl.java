@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -34,14 +35,20 @@ import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Base64;
-import java.util.HashSet;
+import java.util.Deque;
 import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -51,6 +58,8 @@ import java.util.logging.Logger;
 
 import org.neo4j.cypherdsl.support.schema_name.SchemaNames;
 import org.neo4j.jdbc.Neo4jException.GQLError;
+import org.neo4j.jdbc.Neo4jTransaction.BatchQuery;
+import org.neo4j.jdbc.Neo4jTransaction.DiscardResponse;
 import org.neo4j.jdbc.Neo4jTransaction.ResultSummary;
 import org.neo4j.jdbc.Neo4jTransaction.RunAndPullResponses;
 import org.neo4j.jdbc.events.Neo4jEvent;
@@ -59,6 +68,7 @@ import org.neo4j.jdbc.events.StatementListener;
 import org.neo4j.jdbc.events.StatementListener.ExecutionEndedEvent;
 import org.neo4j.jdbc.events.StatementListener.ExecutionStartedEvent;
 import org.neo4j.jdbc.events.StatementListener.ExecutionStartedEvent.ExecutionMode;
+import org.neo4j.jdbc.values.Record;
 import org.neo4j.jdbc.values.Values;
 
 import static org.neo4j.jdbc.Neo4jException.withCause;
@@ -87,6 +97,27 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	private int maxRows;
 
+	private int resultSetType = ResultSet.TYPE_FORWARD_ONLY;
+
+	private ResultMemoryBudget memoryBudget;
+
+	private long rowBufferMemoryThreshold = RowBuffer.DEFAULT_MEMORY_THRESHOLD;
+
+	private int rowBufferSegmentSize = RowBuffer.DEFAULT_SEGMENT_SIZE;
+
+	private boolean allowMultiQueries;
+
+	private boolean sqlTranslation;
+
+	private volatile Neo4jTransaction executingTransaction;
+
+	/**
+	 * The asynchronous execution in flight, if any. Its outcome is applied to this
+	 * statement by the thread completing it, so no other execution may start before it
+	 * is done.
+	 */
+	private volatile CompletableFuture<?> asyncExecution;
+
 	private int maxFieldSize;
 
 	protected ResultSet resultSet;
@@ -95,6 +126,12 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	private boolean multipleResultsApi;
 
+	/**
+	 * The results of a script that have not been iterated through
+	 * {@link #getMoreResults()} yet.
+	 */
+	private final Deque<PendingResult> pendingResults = new ArrayDeque<>();
+
 	private int queryTimeout;
 
 	protected boolean poolable;
@@ -113,16 +150,30 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	private final Consumer<Class<? extends Statement>> onClose;
 
-	private final Set<StatementListener> listeners = new HashSet<>();
+	private final Listeners<StatementListener> listeners = new Listeners<>();
+
+	private final Listeners<ResultSetListener> resultSetListeners = new Listeners<>();
+
+	private final List<String> batch = new ArrayList<>();
+
+	private final double readAheadWatermark;
+
+	private final boolean adaptiveFetchSize;
+
+	private final long adaptiveFetchSizeMemoryLimit;
 
 	StatementImpl(Connection connection, Neo4jTransactionSupplier transactionSupplier,
-			UnaryOperator<String> sqlProcessor, Warnings localWarnings, Consumer<Class<? extends Statement>> onClose) {
+			UnaryOperator<String> sqlProcessor, Warnings localWarnings, Consumer<Class<? extends Statement>> onClose,
+			double readAheadWatermark, boolean adaptiveFetchSize, long adaptiveFetchSizeMemoryLimit) {
 		this.connection = Objects.requireNonNull(connection);
 		this.transactionSupplier = Objects.requireNonNull(transactionSupplier);
 		this.sqlProcessor = Objects.requireNonNullElseGet(sqlProcessor, UnaryOperator::identity);
 		this.warnings = Objects.requireNonNullElseGet(localWarnings, Warnings::new);
 		this.onClose = Objects.requireNonNullElse(onClose, type -> {
 		});
+		this.readAheadWatermark = readAheadWatermark;
+		this.adaptiveFetchSize = adaptiveFetchSize;
+		this.adaptiveFetchSizeMemoryLimit = adaptiveFetchSizeMemoryLimit;
 	}
 
 	/**
@@ -135,6 +186,9 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		this.warnings = new Warnings();
 		this.onClose = type -> {
 		};
+		this.readAheadWatermark = 0.0;
+		this.adaptiveFetchSize = false;
+		this.adaptiveFetchSizeMemoryLimit = 0;
 	}
 
 	@Override
@@ -144,42 +198,78 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	protected final ResultSet executeQuery0(String sql, boolean applyProcessor, Map<String, Object> parameters)
 			throws SQLException {
+		return executeQuery0(sql, applyProcessor, parameters, 0);
+	}
+
+	private ResultSetImpl executeQuery0(String sql, boolean applyProcessor, Map<String, Object> parameters,
+			int initialFetchSize) throws SQLException {
 		assertIsOpen();
+		assertNoAsyncExecution();
 		closeResultSet();
 		return recordEvent(sql, ExecutionMode.QUERY, context -> {
 			this.updateCount = -1;
 			this.multipleResultsApi = false;
 			var processedSQL = applyProcessor ? processSQL(sql) : sql;
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
 			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
-			var responses = runAndPull(transaction, processedSQL, parameters, context);
-			this.resultSet = newResultSet(transaction, responses);
+			this.executingTransaction = transaction;
+			notifyListeners(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context);
+			var adaptiveFetchSize = newAdaptiveFetchSize();
+			var responses = runAndPull(transaction, processedSQL, parameters, context, adaptiveFetchSize,
+					initialFetchSize);
+			var newResultSet = newResultSet(transaction, responses, adaptiveFetchSize);
+			this.resultSet = newResultSet;
 			this.resultSetAcquired.set(false);
-			return this.resultSet;
+			return newResultSet;
 		});
 	}
 
+	private AdaptiveFetchSize newAdaptiveFetchSize() {
+		return this.adaptiveFetchSize ? new AdaptiveFetchSize(this.adaptiveFetchSizeMemoryLimit) : null;
+	}
+
 	private RunAndPullResponses runAndPull(Neo4jTransaction transaction, String processedSQL,
-			Map<String, Object> parameters, Map<String, Object> context) throws SQLException {
-		var finalFetchSize = (this.maxRows > 0) ? Math.min(this.maxRows, this.fetchSize) : this.fetchSize;
-		var runAndPull = transaction.runAndPull(processedSQL, getParameters(parameters), finalFetchSize,
-				this.queryTimeout);
-		Events.notify(this.listeners,
-				listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.RUN_AND_PULL_RESPONSE_ACQUIRED, context)));
+			Map<String, Object> parameters, Map<String, Object> context, AdaptiveFetchSize adaptiveFetchSize,
+			int initialFetchSize) throws SQLException {
+		var fetchSize = fetchSizeOf(adaptiveFetchSize, initialFetchSize);
+		var runAndPull = transaction.runAndPull(processedSQL, getParameters(parameters), fetchSize, this.queryTimeout);
+		return onRunAndPull(runAndPull, context, adaptiveFetchSize, fetchSize);
+	}
+
+	private int fetchSizeOf(AdaptiveFetchSize adaptiveFetchSize, int initialFetchSize) {
+		int fetchSize;
+		if (initialFetchSize > 0) {
+			fetchSize = initialFetchSize;
+		}
+		else {
+			fetchSize = (adaptiveFetchSize != null) ? adaptiveFetchSize.get() : this.fetchSize;
+		}
+		if (this.memoryBudget != null) {
+			fetchSize = (int) this.memoryBudget.limitFetchSize(fetchSize, 0);
+		}
+		return (this.maxRows > 0) ? Math.min(this.maxRows, fetchSize) : fetchSize;
+	}
+
+	private RunAndPullResponses onRunAndPull(RunAndPullResponses runAndPull, Map<String, Object> context,
+			AdaptiveFetchSize adaptiveFetchSize, int fetchSize) {
+		if (adaptiveFetchSize != null) {
+			// The latency of the first batch is dominated by planning and starting the
+			// query, so only the size of the records is taken into account
+			adaptiveFetchSize.onBatch(runAndPull.pullResponse(), fetchSize, 0);
+		}
+		notifyListeners(Neo4jEvent.Type.RUN_AND_PULL_RESPONSE_ACQUIRED, context);
 		return runAndPull;
 	}
 
-	private ResultSetImpl newResultSet(Neo4jTransaction transaction, RunAndPullResponses responses) {
+	private ResultSetImpl newResultSet(Neo4jTransaction transaction, RunAndPullResponses responses,
+			AdaptiveFetchSize adaptiveFetchSize) {
+		var rowBuffer = (this.resultSetType == ResultSetImpl.SUPPORTED_SCROLLABLE_TYPE)
+				? new RowBuffer(this.rowBufferMemoryThreshold, this.rowBufferSegmentSize) : null;
 		var newResultSet = new ResultSetImpl(this, transaction, responses.runResponse(), responses.pullResponse(),
-				this.fetchSize, this.maxRows, this.maxFieldSize);
-		this.listeners.forEach(listener -> {
-			if (listener instanceof ResultSetListener resultSetListener) {
-				newResultSet.addListener(resultSetListener);
-			}
-		});
+				this.fetchSize, this.maxRows, this.maxFieldSize, this.readAheadWatermark, adaptiveFetchSize, rowBuffer);
+		if (!this.resultSetListeners.isEmpty()) {
+			newResultSet.addListeners(this.resultSetListeners);
+		}
 		return newResultSet;
 	}
 
@@ -192,29 +282,158 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	protected final int executeUpdate0(String sql, boolean applyProcessor, Map<String, Object> parameters)
 			throws SQLException {
 		assertIsOpen();
+		assertNoAsyncExecution();
 		closeResultSet();
 		return recordEvent(sql, ExecutionMode.UPDATE, context -> {
 			this.updateCount = -1;
 			this.multipleResultsApi = false;
 			var processedSQL = applyProcessor ? processSQL(sql) : sql;
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
 			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
+			this.executingTransaction = transaction;
+			notifyListeners(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context);
 			var discardResponse = transaction.runAndDiscard(processedSQL, getParameters(parameters), this.queryTimeout,
 					transaction.isAutoCommit());
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.DISCARD_RESPONSE_ACQUIRED, context)));
-			return discardResponse.resultSummary().map(ResultSummary::counters).map(c -> {
-				var rowCount = c.nodesCreated() + c.nodesDeleted() + c.relationshipsCreated()
-						+ c.relationshipsDeleted();
-				if (rowCount == 0 && c.containsUpdates()) {
-					var labelsAndProperties = c.labelsAdded() + c.labelsRemoved() + c.propertiesSet();
-					rowCount = (labelsAndProperties > 0) ? 1 : 0;
-				}
-				return rowCount;
-			}).orElse(0);
+			notifyListeners(Neo4jEvent.Type.DISCARD_RESPONSE_ACQUIRED, context);
+			return getUpdateCount(discardResponse);
+		});
+	}
+
+	@Override
+	public CompletionStage<ResultSet> executeQueryAsync(String sql) throws SQLException {
+		return executeQueryAsync0(sql, true, Map.of());
+	}
+
+	protected final CompletionStage<ResultSet> executeQueryAsync0(String sql, boolean applyProcessor,
+			Map<String, Object> parameters) throws SQLException {
+		assertIsOpen();
+		assertNoAsyncExecution();
+		closeResultSet();
+		return trackAsyncExecution(recordEventAsync(sql, ExecutionMode.QUERY, context -> {
+			this.updateCount = -1;
+			this.multipleResultsApi = false;
+			var processedSQL = applyProcessor ? processSQL(sql) : sql;
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
+			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+			this.executingTransaction = transaction;
+			notifyListeners(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context);
+			var adaptiveFetchSize = newAdaptiveFetchSize();
+			var fetchSize = fetchSizeOf(adaptiveFetchSize, 0);
+			// The result set is applied by the thread completing the request, which is
+			// safe as no other execution may start before the returned stage is done
+			return transaction.runAndPullAsync(processedSQL, getParameters(parameters), fetchSize, this.queryTimeout)
+				.thenApply(responses -> {
+					onRunAndPull(responses, context, adaptiveFetchSize, fetchSize);
+					var newResultSet = newResultSet(transaction, responses, adaptiveFetchSize);
+					this.resultSet = newResultSet;
+					this.resultSetAcquired.set(false);
+					return newResultSet;
+				});
+		}));
+	}
+
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync(String sql) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Executing update `%s` asynchronously".formatted(sql));
+		return executeUpdateAsync0(sql, true, Map.of());
+	}
+
+	protected final CompletionStage<Integer> executeUpdateAsync0(String sql, boolean applyProcessor,
+			Map<String, Object> parameters) throws SQLException {
+		assertIsOpen();
+		assertNoAsyncExecution();
+		closeResultSet();
+		return trackAsyncExecution(recordEventAsync(sql, ExecutionMode.UPDATE, context -> {
+			this.updateCount = -1;
+			this.multipleResultsApi = false;
+			var processedSQL = applyProcessor ? processSQL(sql) : sql;
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
+			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+			this.executingTransaction = transaction;
+			notifyListeners(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context);
+			return transaction
+				.runAndDiscardAsync(processedSQL, getParameters(parameters), this.queryTimeout,
+						transaction.isAutoCommit())
+				.thenApply(discardResponse -> {
+					notifyListeners(Neo4jEvent.Type.DISCARD_RESPONSE_ACQUIRED, context);
+					return getUpdateCount(discardResponse);
+				});
+		}));
+	}
+
+	private <T> CompletionStage<T> trackAsyncExecution(CompletionStage<T> execution) {
+		this.asyncExecution = execution.toCompletableFuture();
+		return execution;
+	}
+
+	private void assertNoAsyncExecution() throws SQLException {
+		var execution = this.asyncExecution;
+		if (execution != null && !execution.isDone()) {
+			throw new Neo4jException(withReason("Another execution of this statement is still in flight"));
+		}
+	}
+
+	/**
+	 * Waits for the asynchronous execution in flight, if any, so that its result set is
+	 * known and can be closed on the calling thread. Its failure has already been
+	 * reported through the stage returned to the caller.
+	 */
+	private void awaitAsyncExecution() {
+		var execution = this.asyncExecution;
+		if (execution != null) {
+			execution.handle((result, error) -> null).join();
+			this.asyncExecution = null;
+		}
+	}
+
+	private static int getUpdateCount(DiscardResponse discardResponse) {
+		return discardResponse.resultSummary().map(ResultSummary::counters).map(c -> {
+			var rowCount = c.nodesCreated() + c.nodesDeleted() + c.relationshipsCreated() + c.relationshipsDeleted();
+			if (rowCount == 0 && c.containsUpdates()) {
+				var labelsAndProperties = c.labelsAdded() + c.labelsRemoved() + c.propertiesSet();
+				rowCount = (labelsAndProperties > 0) ? 1 : 0;
+			}
+			return rowCount;
+		}).orElse(0);
+	}
+
+	/**
+	 * Runs all queries of a batch pipelined and reports the update count of each query.
+	 * The queries are iterated while they are sent, their parameters must not contain any
+	 * readers or streams.
+	 * @param sql the original statements, used for events
+	 * @param queries the queries to run, possibly a lazy view
+	 * @return the update counts
+	 * @throws BatchUpdateException if the batch fails
+	 */
+	protected final int[] executeBatch0(String sql, List<BatchQuery> queries) throws SQLException {
+		assertIsOpen();
+		assertNoAsyncExecution();
+		closeResultSet();
+		if (queries.isEmpty()) {
+			return new int[0];
+		}
+		return recordEvent(sql, ExecutionMode.BATCH, context -> {
+			this.updateCount = -1;
+			this.multipleResultsApi = false;
+			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+			this.executingTransaction = transaction;
+			notifyListeners(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context);
+			List<DiscardResponse> discardResponses;
+			try {
+				discardResponses = transaction.runAndDiscardAll(queries, this.queryTimeout, transaction.isAutoCommit());
+			}
+			catch (SQLException ex) {
+				// All queries of a batch are run in the same transaction, which is not
+				// usable after a failure, hence none of the updates count
+				throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), new int[0], ex);
+			}
+			notifyListeners(Neo4jEvent.Type.DISCARD_RESPONSE_ACQUIRED, context);
+			var result = new int[discardResponses.size()];
+			for (var i = 0; i < result.length; ++i) {
+				result[i] = getUpdateCount(discardResponses.get(i));
+			}
+			return result;
 		});
 	}
 
@@ -224,6 +443,7 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		if (this.closed) {
 			return;
 		}
+		awaitAsyncExecution();
 		closeResultSet();
 		this.closed = true;
 		this.onClose.accept(this.getType());
@@ -288,7 +508,12 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	@Override
 	public void cancel() throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		LOGGER.log(Level.FINER, () -> "Cancelling");
+		assertIsOpen();
+		var transaction = this.executingTransaction;
+		if (transaction != null) {
+			transaction.cancel();
+		}
 	}
 
 	@Override
@@ -313,32 +538,102 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	@Override
 	public boolean execute(String sql) throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Executing `%s`".formatted(sql));
+		if (this.allowMultiQueries) {
+			var statements = Scripts.split(sql, !this.sqlTranslation || ConnectionImpl.forceCypher(sql));
+			if (statements.size() > 1) {
+				return executeScript0(sql, statements);
+			}
+		}
 		return execute0(sql, Map.of());
 	}
 
+	/**
+	 * Runs all statements of a script pipelined in one request. The first result is
+	 * available right away, the following ones through {@link #getMoreResults()}.
+	 * @param sql the whole script, used for events
+	 * @param statements the statements of the script
+	 * @return {@literal true} if the first result is a result set
+	 * @throws SQLException if any of the statements fails
+	 */
+	private boolean executeScript0(String sql, List<String> statements) throws SQLException {
+		assertIsOpen();
+		assertNoAsyncExecution();
+		closeResultSet();
+		return recordEvent(sql, ExecutionMode.PLAIN, context -> {
+			this.updateCount = -1;
+			this.multipleResultsApi = true;
+			var queries = new ArrayList<BatchQuery>(statements.size());
+			for (var statement : statements) {
+				queries.add(new BatchQuery(processSQL(statement), Map.of()));
+			}
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
+			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+			this.executingTransaction = transaction;
+			notifyListeners(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context);
+			var fetchSize = fetchSizeOf(newAdaptiveFetchSize(), 0);
+			for (var responses : transaction.runAndPullAll(queries, fetchSize, this.queryTimeout)) {
+				var adaptiveFetchSize = newAdaptiveFetchSize();
+				this.pendingResults
+					.add(new PendingResult(transaction, onRunAndPull(responses, context, adaptiveFetchSize, fetchSize),
+							adaptiveFetchSize));
+			}
+			return nextResult();
+		});
+	}
+
+	/**
+	 * Makes the next pending result of a script the current one.
+	 * @return {@literal true} if the next result is a result set, {@literal false} if it
+	 * is an update count or if there are no more results
+	 */
+	private boolean nextResult() {
+		var pendingResult = this.pendingResults.poll();
+		if (pendingResult == null) {
+			this.updateCount = -1;
+			return false;
+		}
+		this.resultSet = newResultSet(pendingResult.transaction(), pendingResult.responses(),
+				pendingResult.adaptiveFetchSize());
+		this.resultSetAcquired.set(false);
+		this.updateCount = getUpdateCount(pendingResult.responses());
+		return this.updateCount == -1;
+	}
+
+	/**
+	 * {@return whether there are results of a script that have not been iterated yet}
+	 */
+	boolean hasPendingResults() {
+		return !this.pendingResults.isEmpty();
+	}
+
 	protected final boolean execute0(String sql, Map<String, Object> parameters) throws SQLException {
 		assertIsOpen();
+		assertNoAsyncExecution();
 		closeResultSet();
 		return recordEvent(sql, ExecutionMode.PLAIN, context -> {
 			this.updateCount = -1;
 			this.multipleResultsApi = true;
 			var processedSQL = processSQL(sql);
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
 			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
-			var responses = runAndPull(transaction, processedSQL, parameters, context);
-			this.resultSet = newResultSet(transaction, responses);
-			this.updateCount = responses.pullResponse()
-				.resultSummary()
-				.map(summary -> summary.counters().totalCount())
-				.filter(count -> count > 0)
-				.orElse(-1);
+			this.executingTransaction = transaction;
+			notifyListeners(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context);
+			var adaptiveFetchSize = newAdaptiveFetchSize();
+			var responses = runAndPull(transaction, processedSQL, parameters, context, adaptiveFetchSize, 0);
+			this.resultSet = newResultSet(transaction, responses, adaptiveFetchSize);
+			this.updateCount = getUpdateCount(responses);
 			return this.updateCount == -1;
 		});
 	}
 
+	private static int getUpdateCount(RunAndPullResponses responses) {
+		return responses.pullResponse()
+			.resultSummary()
+			.map(summary -> summary.counters().totalCount())
+			.filter(count -> count > 0)
+			.orElse(-1);
+	}
+
 	private <T> T recordEvent(String statement, ExecutionMode executionType, SqlCallable<T> callable)
 			throws SQLException {
 
@@ -350,7 +645,7 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		var s = System.nanoTime();
 		var databaseURL = this.connection.unwrap(Neo4jConnection.class).getDatabaseURL();
 		var startEvent = new ExecutionStartedEvent(id, databaseURL, getType(), executionType, statement);
-		Events.notify(this.listeners, listener -> listener.onExecutionStarted(startEvent));
+		this.listeners.notify(startEvent, StatementListener::onExecutionStarted);
 
 		var context = Map.<String, Object>of("source", getType(), "id", id);
 		var state = ExecutionEndedEvent.State.FAILED;
@@ -362,7 +657,13 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		finally {
 			final long e = System.nanoTime();
 			var endEvent = new ExecutionEndedEvent(id, databaseURL, state, Duration.ofNanos(e - s));
-			Events.notify(this.listeners, listener -> listener.onExecutionEnded(endEvent));
+			this.listeners.notify(endEvent, StatementListener::onExecutionEnded);
+		}
+	}
+
+	private void notifyListeners(Neo4jEvent.Type type, Map<String, Object> context) {
+		if (!this.listeners.isEmpty()) {
+			this.listeners.notify(new Neo4jEvent(type, context), StatementListener::on);
 		}
 	}
 
@@ -374,7 +675,7 @@ non-sealed class StatementImpl implements Neo4jStatement {
 					.getBytes(StandardCharsets.UTF_8)));
 	}
 
-	private static Map<String, Object> getParameters(Map<String, Object> parameters) throws SQLException {
+	static Map<String, Object> getParameters(Map<String, Object> parameters) throws SQLException {
 		var result = Objects.requireNonNullElseGet(parameters, Map::<String, Object>of);
 		for (Map.Entry<String, Object> entry : result.entrySet()) {
 			if (entry.getValue() instanceof Reader reader) {
@@ -426,8 +727,8 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		LOGGER.log(Level.FINER, () -> "Getting more results state");
 		assertIsOpen();
 		if (this.multipleResultsApi) {
-			closeResultSet();
-			this.updateCount = -1;
+			closeCurrentResultSet();
+			return nextResult();
 		}
 		return false;
 	}
@@ -469,26 +770,91 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		return ResultSet.CONCUR_READ_ONLY;
 	}
 
+	/**
+	 * Configures the type of the result sets created by this statement.
+	 * @param resultSetType either {@link ResultSet#TYPE_FORWARD_ONLY} or
+	 * {@link ResultSet#TYPE_SCROLL_INSENSITIVE}
+	 */
+	void setResultSetType(int resultSetType) {
+		this.resultSetType = resultSetType;
+	}
+
+	/**
+	 * Configures the budget in which the result sets created by this statement account
+	 * for their buffered records.
+	 * @param memoryBudget the budget of the driver owning this statement
+	 */
+	void setMemoryBudget(ResultMemoryBudget memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * Configures when scrollable result sets created by this statement spill their
+	 * records to disk.
+	 * @param memoryThreshold the estimated number of bytes kept on the heap
+	 * @param segmentSize the size of a single memory-mapped region of the spill file
+	 */
+	void setRowBufferLimits(long memoryThreshold, int segmentSize) {
+		this.rowBufferMemoryThreshold = memoryThreshold;
+		this.rowBufferSegmentSize = segmentSize;
+	}
+
+	/**
+	 * Configures whether {@link #execute(String)} splits scripts of several statements.
+	 * @param allowMultiQueries {@literal true} to run scripts pipelined in one request
+	 */
+	void setAllowMultiQueries(boolean allowMultiQueries) {
+		this.allowMultiQueries = allowMultiQueries;
+	}
+
+	/**
+	 * Configures whether the statements passed to this statement are SQL that gets
+	 * translated, which decides how string literals in scripts are scanned.
+	 * @param sqlTranslation {@literal true} if SQL translation is enabled
+	 */
+	void setSqlTranslation(boolean sqlTranslation) {
+		this.sqlTranslation = sqlTranslation;
+	}
+
+	ResultMemoryBudget getMemoryBudget() {
+		return this.memoryBudget;
+	}
+
 	@Override
 	public int getResultSetType() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Getting result set type");
 		assertIsOpen();
-		return ResultSet.TYPE_FORWARD_ONLY;
+		return this.resultSetType;
 	}
 
 	@Override
 	public void addBatch(String sql) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		LOGGER.log(Level.FINER, () -> "Adding `%s` to batch".formatted(sql));
+		assertIsOpen();
+		this.batch.add(Objects.requireNonNull(sql));
 	}
 
 	@Override
 	public void clearBatch() throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		LOGGER.log(Level.FINER, () -> "Clearing batch");
+		assertIsOpen();
+		this.batch.clear();
 	}
 
 	@Override
 	public int[] executeBatch() throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		LOGGER.log(Level.FINER, () -> "Executing batch");
+		assertIsOpen();
+		try {
+			var queries = new ArrayList<BatchQuery>(this.batch.size());
+			for (var sql : this.batch) {
+				queries.add(new BatchQuery(processSQL(sql), Map.of()));
+			}
+			return executeBatch0(String.join("; ", this.batch), queries);
+		}
+		finally {
+			this.batch.clear();
+		}
 	}
 
 	@Override
@@ -500,7 +866,13 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	@Override
 	public boolean getMoreResults(int current) throws SQLException {
-		throw new SQLFeatureNotSupportedException();
+		LOGGER.log(Level.FINER, () -> "Getting more results state with current set to %d".formatted(current));
+		// Only one result of a script is open at a time, hence closing the current one
+		// closes all of them
+		if (current != Statement.CLOSE_CURRENT_RESULT && current != Statement.CLOSE_ALL_RESULTS) {
+			throw new SQLFeatureNotSupportedException();
+		}
+		return getMoreResults();
 	}
 
 	@Override
@@ -623,6 +995,18 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	}
 
 	private void closeResultSet() throws SQLException {
+		var transaction = discardPendingResults();
+		if (this.resultSet != null) {
+			closeCurrentResultSet();
+		}
+		else if (transaction != null && transaction.isAutoCommit() && transaction.isRunnable()) {
+			// The current result set has been closed while results of the script were
+			// pending, which keeps the transaction open
+			transaction.commit();
+		}
+	}
+
+	private void closeCurrentResultSet() throws SQLException {
 		if (this.resultSet != null) {
 			this.resultSet.close();
 			this.resultSet = null;
@@ -630,6 +1014,24 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		}
 	}
 
+	/**
+	 * Discards the records of all results of a script that have not been iterated.
+	 * @return the transaction of the script or {@literal null} if there have been no
+	 * pending results
+	 * @throws SQLException if the records cannot be discarded
+	 */
+	private Neo4jTransaction discardPendingResults() throws SQLException {
+		Neo4jTransaction transaction = null;
+		PendingResult pendingResult;
+		while ((pendingResult = this.pendingResults.poll()) != null) {
+			transaction = pendingResult.transaction();
+			if (pendingResult.responses().pullResponse().hasMore() && transaction.isRunnable()) {
+				transaction.discard(pendingResult.responses().runResponse());
+			}
+		}
+		return transaction;
+	}
+
 	protected final String processSQL(String sql) throws SQLException {
 		try {
 			var processedSQL = this.sqlProcessor.apply(sql);
@@ -652,9 +1054,94 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		return this;
 	}
 
+	void addListeners(Listeners<StatementListener> statementListeners) {
+		statementListeners.forEach(this::addListener);
+	}
+
 	@Override
 	public void addListener(StatementListener statementListener) {
 		this.listeners.add(Objects.requireNonNull(statementListener));
+		if (statementListener instanceof ResultSetListener resultSetListener) {
+			this.resultSetListeners.add(resultSetListener);
+		}
+	}
+
+	@Override
+	public Flow.Publisher<Record> executeAsPublisher(String sql, Executor executor) throws SQLException {
+		assertIsOpen();
+		return new RecordPublisher(new RecordPublisher.Cursor() {
+
+			private ResultSetImpl resultSet;
+
+			@Override
+			public Record next(long demand) throws SQLException {
+				if (this.resultSet == null) {
+					var initialFetchSize = (int) Math.min(demand, Integer.MAX_VALUE);
+					this.resultSet = executeQuery0(sql, true, Map.of(), initialFetchSize);
+				}
+				return this.resultSet.nextRecord(demand);
+			}
+
+			@Override
+			public void close() throws SQLException {
+				if (this.resultSet != null) {
+					this.resultSet.close();
+				}
+			}
+		}, executor);
+	}
+
+	@Override
+	public <T> List<T> query(String sql, Class<T> type) throws SQLException {
+		try (var rows = executeQuery0(sql, true, Map.of(), 0)) {
+			var result = new ArrayList<T>();
+			while (rows.next()) {
+				result.add(rows.mapTo(type));
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Asynchronous variant of {@link #recordEvent(String, ExecutionMode, SqlCallable)},
+	 * the execution is considered to have ended when the returned stage completes.
+	 * @param statement the statement being executed
+	 * @param executionType the type of the execution
+	 * @param callable starts the execution
+	 * @param <T> the type of the result
+	 * @return the stage returned by the callable, or a failed stage if it throws
+	 * @throws SQLException if the statement cannot be identified
+	 */
+	private <T> CompletionStage<T> recordEventAsync(String statement, ExecutionMode executionType,
+			SqlCallable<CompletionStage<T>> callable) throws SQLException {
+
+		if (this.listeners.isEmpty()) {
+			return callAsync(callable, Map.of());
+		}
+
+		var id = statementId();
+		var s = System.nanoTime();
+		var databaseURL = this.connection.unwrap(Neo4jConnection.class).getDatabaseURL();
+		var startEvent = new ExecutionStartedEvent(id, databaseURL, getType(), executionType, statement);
+		this.listeners.notify(startEvent, StatementListener::onExecutionStarted);
+
+		var context = Map.<String, Object>of("source", getType(), "id", id);
+		return callAsync(callable, context).whenComplete((result, error) -> {
+			final long e = System.nanoTime();
+			var state = (error != null) ? ExecutionEndedEvent.State.FAILED : ExecutionEndedEvent.State.SUCCESSFUL;
+			var endEvent = new ExecutionEndedEvent(id, databaseURL, state, Duration.ofNanos(e - s));
+			this.listeners.notify(endEvent, StatementListener::onExecutionEnded);
+		});
+	}
+
+	private static <T> CompletionStage<T> callAsync(SqlCallable<CompletionStage<T>> callable,
+			Map<String, Object> context) {
+		try {
+			return callable.call(context);
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
 	}
 
 	Class<? extends Statement> getType() {
@@ -680,4 +1167,8 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	}
 
+	private record PendingResult(Neo4jTransaction transaction, RunAndPullResponses responses,
+			AdaptiveFetchSize adaptiveFetchSize) {
+	}
+
 }
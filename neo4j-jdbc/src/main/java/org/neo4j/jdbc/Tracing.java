@@ -82,6 +82,7 @@ final class Tracing implements ConnectionListener, StatementListener, ResultSetL
 			case UPDATE -> "executeUpdate";
 			case PLAIN -> "execute";
 			case QUERY -> "executeQuery";
+			case BATCH -> "executeBatch";
 		};
 
 		var type = event.statementType().getSimpleName();
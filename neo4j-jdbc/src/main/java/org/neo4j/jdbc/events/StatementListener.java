@@ -78,7 +78,12 @@ public interface StatementListener extends Neo4jEventListener {
 			/**
 			 * Used with {@link Statement#executeUpdate(String)} and overloads.
 			 */
-			UPDATE
+			UPDATE,
+			/**
+			 * Used with {@link Statement#executeBatch()}.
+			 * @since 6.9.0
+			 */
+			BATCH
 
 		}
 	}
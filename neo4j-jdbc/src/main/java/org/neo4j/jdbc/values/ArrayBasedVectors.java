@@ -18,6 +18,12 @@
  */
 package org.neo4j.jdbc.values;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Function;
@@ -78,6 +84,17 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public ByteBuffer asBuffer() {
+			return ByteBuffer.wrap(this.elements, 0, this.size).asReadOnlyBuffer();
+		}
+
+		@Override
+		public int copyInto(byte[] target, int offset) {
+			System.arraycopy(this.elements, 0, target, offset, this.size);
+			return this.size;
+		}
+
 		@Override
 		public Stream<Byte> stream() {
 			return IntStream.range(0, this.elements.length).mapToObj(i -> this.elements[i]);
@@ -115,6 +132,17 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public ShortBuffer asBuffer() {
+			return ShortBuffer.wrap(this.elements, 0, this.size).asReadOnlyBuffer();
+		}
+
+		@Override
+		public int copyInto(short[] target, int offset) {
+			System.arraycopy(this.elements, 0, target, offset, this.size);
+			return this.size;
+		}
+
 		@Override
 		public Stream<Short> stream() {
 			return IntStream.range(0, this.elements.length).mapToObj(i -> this.elements[i]);
@@ -152,6 +180,17 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public IntBuffer asBuffer() {
+			return IntBuffer.wrap(this.elements, 0, this.size).asReadOnlyBuffer();
+		}
+
+		@Override
+		public int copyInto(int[] target, int offset) {
+			System.arraycopy(this.elements, 0, target, offset, this.size);
+			return this.size;
+		}
+
 		@Override
 		public Stream<Integer> stream() {
 			return Arrays.stream(this.elements).boxed();
@@ -189,6 +228,17 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public LongBuffer asBuffer() {
+			return LongBuffer.wrap(this.elements, 0, this.size).asReadOnlyBuffer();
+		}
+
+		@Override
+		public int copyInto(long[] target, int offset) {
+			System.arraycopy(this.elements, 0, target, offset, this.size);
+			return this.size;
+		}
+
 		@Override
 		public Stream<Long> stream() {
 			return Arrays.stream(this.elements).boxed();
@@ -226,6 +276,17 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public FloatBuffer asBuffer() {
+			return FloatBuffer.wrap(this.elements, 0, this.size).asReadOnlyBuffer();
+		}
+
+		@Override
+		public int copyInto(float[] target, int offset) {
+			System.arraycopy(this.elements, 0, target, offset, this.size);
+			return this.size;
+		}
+
 		@Override
 		public Stream<Float> stream() {
 			return IntStream.range(0, this.elements.length).mapToObj(i -> this.elements[i]);
@@ -263,6 +324,17 @@ final class ArrayBasedVectors {
 			return Arrays.copyOf(this.elements, this.size);
 		}
 
+		@Override
+		public DoubleBuffer asBuffer() {
+			return DoubleBuffer.wrap(this.elements, 0, this.size).asReadOnlyBuffer();
+		}
+
+		@Override
+		public int copyInto(double[] target, int offset) {
+			System.arraycopy(this.elements, 0, target, offset, this.size);
+			return this.size;
+		}
+
 		@Override
 		public Stream<Double> stream() {
 			return Arrays.stream(this.elements).boxed();
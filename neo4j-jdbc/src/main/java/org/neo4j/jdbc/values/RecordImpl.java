@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,15 +30,56 @@ final class RecordImpl extends AbstractMapAccessorWithDefaultValue implements Re
 
 	private final List<String> keys;
 
+	/**
+	 * The raw values of this record in case they are resolved lazily, {@literal null}
+	 * otherwise. Raw values decoded from Bolt already wrap a {@link Value}, resolving
+	 * them merely unwraps it.
+	 */
+	private final List<?> source;
+
 	private final Value[] values;
 
 	private int hashCode;
 
+	/**
+	 * Creates records whose raw values are resolved via {@link Values#value(Object)} only
+	 * when they are accessed for the first time. The field is reflected upon by the
+	 * driver when decoding results (hence the suppression), so that this factory doesn't
+	 * need to be part of the public API.
+	 */
+	@SuppressWarnings("unused")
+	static final BiFunction<List<String>, List<?>, Record> LAZY_FACTORY = RecordImpl::new;
+
 	RecordImpl(List<String> keys, Value[] values) {
 		this.keys = keys;
+		this.source = null;
 		this.values = values;
 	}
 
+	RecordImpl(List<String> keys, List<?> source) {
+		this.keys = keys;
+		this.source = source;
+		this.values = new Value[source.size()];
+	}
+
+	private Value valueAt(int index) {
+		var value = this.values[index];
+		if (value == null && this.source != null) {
+			value = Values.value(this.source.get(index));
+			this.values[index] = value;
+		}
+		return value;
+	}
+
+	private Value[] materializedValues() {
+		if (this.source != null) {
+			for (var i = 0; i < this.values.length; i++) {
+				valueAt(i);
+			}
+		}
+		return this.values;
+	}
+
 	@Override
 	public List<String> keys() {
 		return this.keys;
@@ -45,7 +87,7 @@ final class RecordImpl extends AbstractMapAccessorWithDefaultValue implements Re
 
 	@Override
 	public List<Value> values() {
-		return Arrays.asList(this.values);
+		return Arrays.asList(materializedValues());
 	}
 
 	@Override
@@ -77,13 +119,13 @@ final class RecordImpl extends AbstractMapAccessorWithDefaultValue implements Re
 			return Values.NULL;
 		}
 		else {
-			return this.values[fieldIndex];
+			return valueAt(fieldIndex);
 		}
 	}
 
 	@Override
 	public Value get(int index) {
-		return (index >= 0 && index < this.values.length) ? this.values[index] : Values.NULL;
+		return (index >= 0 && index < this.values.length) ? valueAt(index) : Values.NULL;
 	}
 
 	@Override
@@ -131,7 +173,7 @@ final class RecordImpl extends AbstractMapAccessorWithDefaultValue implements Re
 	@Override
 	public int hashCode() {
 		if (this.hashCode == 0) {
-			this.hashCode = 31 * this.keys.hashCode() + Arrays.hashCode(this.values);
+			this.hashCode = 31 * this.keys.hashCode() + Arrays.hashCode(materializedValues());
 		}
 		return this.hashCode;
 	}
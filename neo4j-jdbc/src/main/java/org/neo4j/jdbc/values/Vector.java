@@ -18,6 +18,13 @@
  */
 package org.neo4j.jdbc.values;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -95,6 +102,17 @@ public sealed interface Vector extends AsValue {
 	@SuppressWarnings("squid:S1452") // Generic items, this is exactly what we want here
 	Stream<? extends Number> stream();
 
+	/**
+	 * Returns a read-only view of the elements of this vector without copying them. The
+	 * buffer is a {@link ByteBuffer}, {@link ShortBuffer}, {@link IntBuffer},
+	 * {@link LongBuffer}, {@link FloatBuffer} or {@link DoubleBuffer} depending on the
+	 * {@link #elementType() element-type}. Prefer this over {@link #stream()} or
+	 * {@code toArray()} when processing the elements in bulk.
+	 * @return a read-only view of the elements of this vector
+	 * @since 6.9.0
+	 */
+	Buffer asBuffer();
+
 	private static void assertSize(int size) {
 
 		if (size <= 0 || (size > MAX_VECTOR_SIZE && CHECK_UPPER_RANGE.get())) {
@@ -229,6 +247,18 @@ public sealed interface Vector extends AsValue {
 		 */
 		byte[] toArray();
 
+		@Override
+		ByteBuffer asBuffer();
+
+		/**
+		 * Copies the elements of this vector into the given array without allocating.
+		 * @param target the array to copy into
+		 * @param offset the index in the target array of the first element
+		 * @return the number of elements copied, which is the size of this vector
+		 * @throws IndexOutOfBoundsException if the target array is too small
+		 */
+		int copyInto(byte[] target, int offset);
+
 	}
 
 	/**
@@ -242,6 +272,18 @@ public sealed interface Vector extends AsValue {
 		 */
 		short[] toArray();
 
+		@Override
+		ShortBuffer asBuffer();
+
+		/**
+		 * Copies the elements of this vector into the given array without allocating.
+		 * @param target the array to copy into
+		 * @param offset the index in the target array of the first element
+		 * @return the number of elements copied, which is the size of this vector
+		 * @throws IndexOutOfBoundsException if the target array is too small
+		 */
+		int copyInto(short[] target, int offset);
+
 	}
 
 	/**
@@ -255,6 +297,18 @@ public sealed interface Vector extends AsValue {
 		 */
 		int[] toArray();
 
+		@Override
+		IntBuffer asBuffer();
+
+		/**
+		 * Copies the elements of this vector into the given array without allocating.
+		 * @param target the array to copy into
+		 * @param offset the index in the target array of the first element
+		 * @return the number of elements copied, which is the size of this vector
+		 * @throws IndexOutOfBoundsException if the target array is too small
+		 */
+		int copyInto(int[] target, int offset);
+
 	}
 
 	/**
@@ -268,6 +322,18 @@ public sealed interface Vector extends AsValue {
 		 */
 		long[] toArray();
 
+		@Override
+		LongBuffer asBuffer();
+
+		/**
+		 * Copies the elements of this vector into the given array without allocating.
+		 * @param target the array to copy into
+		 * @param offset the index in the target array of the first element
+		 * @return the number of elements copied, which is the size of this vector
+		 * @throws IndexOutOfBoundsException if the target array is too small
+		 */
+		int copyInto(long[] target, int offset);
+
 	}
 
 	/**
@@ -281,6 +347,18 @@ public sealed interface Vector extends AsValue {
 		 */
 		float[] toArray();
 
+		@Override
+		FloatBuffer asBuffer();
+
+		/**
+		 * Copies the elements of this vector into the given array without allocating.
+		 * @param target the array to copy into
+		 * @param offset the index in the target array of the first element
+		 * @return the number of elements copied, which is the size of this vector
+		 * @throws IndexOutOfBoundsException if the target array is too small
+		 */
+		int copyInto(float[] target, int offset);
+
 	}
 
 	/**
@@ -294,6 +372,18 @@ public sealed interface Vector extends AsValue {
 		 */
 		double[] toArray();
 
+		@Override
+		DoubleBuffer asBuffer();
+
+		/**
+		 * Copies the elements of this vector into the given array without allocating.
+		 * @param target the array to copy into
+		 * @param offset the index in the target array of the first element
+		 * @return the number of elements copied, which is the size of this vector
+		 * @throws IndexOutOfBoundsException if the target array is too small
+		 */
+		int copyInto(double[] target, int offset);
+
 	}
 
 }
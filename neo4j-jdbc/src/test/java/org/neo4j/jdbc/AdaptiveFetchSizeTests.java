@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
+import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class AdaptiveFetchSizeTests {
+
+	private static List<Record> records(int count, Value value) {
+		return IntStream.range(0, count).mapToObj(i -> Record.of(List.of("v"), new Value[] { value })).toList();
+	}
+
+	private static PullResponse batch(int count, Value value) {
+		var batch = mock(PullResponse.class);
+		given(batch.records()).willReturn(records(count, value));
+		return batch;
+	}
+
+	@Test
+	void shouldStartSmall() {
+		var adaptiveFetchSize = new AdaptiveFetchSize(0);
+		assertThat(adaptiveFetchSize.get()).isEqualTo(AdaptiveFetchSize.INITIAL_FETCH_SIZE);
+	}
+
+	@Test
+	void shouldGrowOnFastAndFullBatches() {
+		var adaptiveFetchSize = new AdaptiveFetchSize(0);
+		var requested = adaptiveFetchSize.get();
+		adaptiveFetchSize.onBatch(batch(requested, Values.value(1)), requested, 0);
+		assertThat(adaptiveFetchSize.get()).isEqualTo(2 * requested);
+	}
+
+	@Test
+	void shouldNotGrowOnIncompleteBatches() {
+		var adaptiveFetchSize = new AdaptiveFetchSize(0);
+		var requested = adaptiveFetchSize.get();
+		adaptiveFetchSize.onBatch(batch(requested - 1, Values.value(1)), requested, 0);
+		assertThat(adaptiveFetchSize.get()).isEqualTo(requested);
+	}
+
+	@Test
+	void shouldShrinkOnSlowBatches() {
+		var adaptiveFetchSize = new AdaptiveFetchSize(0);
+		var requested = adaptiveFetchSize.get();
+		adaptiveFetchSize.onBatch(batch(requested, Values.value(1)), requested,
+				3 * AdaptiveFetchSize.TARGET_LATENCY_NANOS);
+		assertThat(adaptiveFetchSize.get()).isEqualTo(requested / 2);
+
+		for (int i = 0; i < 10; ++i) {
+			adaptiveFetchSize.onBatch(batch(1, Values.value(1)), adaptiveFetchSize.get(),
+					3 * AdaptiveFetchSize.TARGET_LATENCY_NANOS);
+		}
+		assertThat(adaptiveFetchSize.get()).isEqualTo(AdaptiveFetchSize.MIN_FETCH_SIZE);
+	}
+
+	@Test
+	void shouldRespectMemoryLimit() {
+		var value = Values.value("x".repeat(1000));
+		var recordSize = AdaptiveFetchSize.estimateSize(records(1, value).get(0));
+		var adaptiveFetchSize = new AdaptiveFetchSize(100 * recordSize);
+
+		for (int i = 0; i < 10; ++i) {
+			var requested = adaptiveFetchSize.get();
+			adaptiveFetchSize.onBatch(batch(requested, value), requested, 0);
+		}
+		assertThat(adaptiveFetchSize.get()).isEqualTo(100);
+	}
+
+	@Test
+	void shouldEstimateRawValuesLikeRecords() {
+		var record = Record.of(List.of("a", "b"), new Value[] { Values.value("hello"), Values.value(42) });
+		assertThat(AdaptiveFetchSize.estimateSize(List.of("hello", 42L)))
+			.isEqualTo(AdaptiveFetchSize.estimateSize(record));
+	}
+
+	@Test
+	void shouldEstimateBoltValuesLikeRecords() {
+		var valueFactory = BoltAdapters.getValueFactory();
+		var record = Record.of(List.of("a", "b"), new Value[] { Values.value("hello"), Values.value(42) });
+		assertThat(AdaptiveFetchSize.estimateSize(List.of(valueFactory.value("hello"), valueFactory.value(42L))))
+			.isEqualTo(AdaptiveFetchSize.estimateSize(record));
+	}
+
+	@Test
+	void shouldPreferEstimatedRecordSizeOfBatch() {
+		var batch = batch(1, Values.value(1));
+		given(batch.estimatedRecordSize()).willReturn(4711L);
+		assertThat(AdaptiveFetchSize.estimateRecordSize(batch)).isEqualTo(4711L);
+		then(batch).should(never()).records();
+	}
+
+	@Test
+	void shouldEstimateNestedValues() {
+		var flat = AdaptiveFetchSize.estimateSize(Values.value("hello"));
+		var nested = AdaptiveFetchSize.estimateSize(Values.value(List.of("hello", "hello")));
+		assertThat(nested).isGreaterThan(2 * flat);
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchParametersTests {
+
+	@Test
+	void shouldMaterializeRows() {
+		var batch = new BatchParameters();
+		for (var i = 0; i < 100; ++i) {
+			batch.add(Map.of("1", Values.value(i), "2", Values.value(i * 0.5), "3", Values.value(i % 2 == 0), "4",
+					Values.value("s" + i)));
+		}
+
+		assertThat(batch.size()).isEqualTo(100);
+		assertThat(batch.keys()).containsExactlyInAnyOrder("1", "2", "3", "4");
+		assertThat(batch.get(41)).isEqualTo(Map.of("1", Values.value(41), "2", Values.value(20.5), "3",
+				Values.value(false), "4", Values.value("s41")));
+	}
+
+	@Test
+	void shouldKeepMissingParametersAbsent() {
+		var batch = new BatchParameters();
+		batch.add(Map.of("1", Values.value(1)));
+		batch.add(Map.of("2", Values.value("b")));
+
+		assertThat(batch.get(0)).isEqualTo(Map.of("1", Values.value(1)));
+		assertThat(batch.get(1)).isEqualTo(Map.of("2", Values.value("b")));
+		assertThat(batch.constants()).isEmpty();
+	}
+
+	@Test
+	void shouldWidenColumnOnMixedTypes() {
+		var batch = new BatchParameters();
+		var date = Values.value(LocalDate.of(2025, 1, 1));
+		batch.add(Map.of("1", Values.value(1)));
+		batch.add(Map.of("1", date));
+		batch.add(Map.of("1", Values.value(3)));
+
+		assertThat(batch.get(0)).isEqualTo(Map.of("1", Values.value(1)));
+		assertThat(batch.get(1)).isEqualTo(Map.of("1", date));
+		assertThat(batch.get(2)).isEqualTo(Map.of("1", Values.value(3)));
+	}
+
+	@Test
+	void shouldFindConstants() {
+		var batch = new BatchParameters();
+		batch.add(Map.of("1", Values.value("a"), "2", Values.value(42)));
+		batch.add(Map.of("1", Values.value("b"), "2", Values.value(42)));
+
+		assertThat(batch.constants()).isEqualTo(Map.of("2", Values.value(42)));
+	}
+
+	@Test
+	void shouldEstimateSizeOfRange() {
+		var batch = new BatchParameters();
+		for (var i = 0; i < 10; ++i) {
+			batch.add(Map.of("1", Values.value(i)));
+		}
+
+		assertThat(batch.estimatedSize(0, 10)).isEqualTo(batch.estimatedSize());
+		assertThat(batch.estimatedSize(2, 7)).isEqualTo(batch.estimatedSize() / 2);
+		assertThat(batch.estimatedSize(3, 3)).isZero();
+	}
+
+	@Test
+	void shouldEncodeRangeAsListValue() {
+		var batch = new BatchParameters();
+		for (var value : new String[] { "a", "b", "c" }) {
+			batch.add(Map.of("1", Values.value(value), "2", Values.value(42)));
+		}
+
+		var expected = Values.value(Values.value(Map.of("1", Values.value("b"))),
+				Values.value(Map.of("1", Values.value("c"))));
+		assertThat(batch.toListValue(1, 3, Set.of("2"))).isEqualTo(expected);
+	}
+
+	@Test
+	void shouldNotShareMapsBetweenRows() {
+		var batch = new BatchParameters();
+		batch.add(Map.of("1", Values.value("a"), "2", Values.value(1)));
+		batch.add(Map.of("1", Values.value("b")));
+
+		var rows = batch.toListValue(0, 2, Set.of());
+
+		assertThat(rows.get(0)).isEqualTo(Values.value(Map.of("1", Values.value("a"), "2", Values.value(1))));
+		assertThat(rows.get(1)).isEqualTo(Values.value(Map.of("1", Values.value("b"))));
+	}
+
+}
@@ -95,7 +95,7 @@ class CallableStatementImplTests {
 	void shouldSetParameter(StatementMethodRunner parameterSettingRunner, Value expectedValue)
 			throws SQLException, MalformedURLException, IllegalAccessException {
 		this.statement = new CallableStatementImpl(mock(Connection.class), mock(Neo4jTransactionSupplier.class), null,
-				false, "RETURN $x", new ParameterMetaDataImpl(0));
+				false, 0.0, false, 0, "RETURN $x", new ParameterMetaDataImpl(0));
 
 		parameterSettingRunner.run(this.statement);
 
@@ -191,7 +191,7 @@ class CallableStatementImplTests {
 	@MethodSource
 	void shouldThrowWhenClosed(StatementMethodRunner consumer) throws SQLException {
 		this.statement = new CallableStatementImpl(mock(Connection.class), mock(Neo4jTransactionSupplier.class), null,
-				false, TEST_STATEMENT, new ParameterMetaDataImpl(0));
+				false, 0.0, false, 0, TEST_STATEMENT, new ParameterMetaDataImpl(0));
 		this.statement.close();
 		assertThat(this.statement.isClosed()).isTrue();
 		assertThatThrownBy(() -> consumer.run(this.statement)).isInstanceOf(SQLException.class);
@@ -290,19 +290,19 @@ class CallableStatementImplTests {
 	@MethodSource
 	void shouldThrowUnsupported(StatementMethodRunner consumer, Class<? extends SQLException> exceptionType) {
 		this.statement = new CallableStatementImpl(mock(Connection.class), mock(Neo4jTransactionSupplier.class), null,
-				false, TEST_STATEMENT, new ParameterMetaDataImpl(0));
+				false, 0.0, false, 0, TEST_STATEMENT, new ParameterMetaDataImpl(0));
 		assertThatThrownBy(() -> consumer.run(this.statement)).isInstanceOf(exceptionType);
 	}
 
 	@SuppressWarnings("deprecation")
 	static Stream<Arguments> shouldThrowUnsupported() {
-		return Stream.of(Arguments.of((StatementMethodRunner) Statement::cancel, SQLFeatureNotSupportedException.class),
+		return Stream.of(
 				Arguments.of((StatementMethodRunner) statement -> statement.setCursorName("name"),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.addBatch(TEST_STATEMENT),
 						SQLException.class),
 				Arguments.of(
-						(StatementMethodRunner) statement -> statement.getMoreResults(Statement.CLOSE_CURRENT_RESULT),
+						(StatementMethodRunner) statement -> statement.getMoreResults(Statement.KEEP_CURRENT_RESULT),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) Statement::getGeneratedKeys,
 						SQLFeatureNotSupportedException.class),
@@ -397,7 +397,7 @@ class CallableStatementImplTests {
 	void shouldUnwrap(Class<?> cls, boolean shouldUnwrap) throws SQLException {
 		// given
 		this.statement = new CallableStatementImpl(mock(Connection.class), mock(Neo4jTransactionSupplier.class), null,
-				false, TEST_STATEMENT, new ParameterMetaDataImpl(0));
+				false, 0.0, false, 0, TEST_STATEMENT, new ParameterMetaDataImpl(0));
 
 		// when & then
 		if (shouldUnwrap) {
@@ -414,7 +414,7 @@ class CallableStatementImplTests {
 	void shouldHandleIsWrapperFor(Class<?> cls, boolean shouldUnwrap) {
 		// given
 		this.statement = new CallableStatementImpl(mock(Connection.class), mock(Neo4jTransactionSupplier.class), null,
-				false, TEST_STATEMENT, new ParameterMetaDataImpl(0));
+				false, 0.0, false, 0, TEST_STATEMENT, new ParameterMetaDataImpl(0));
 
 		// when
 		var wrapperFor = this.statement.isWrapperFor(cls);
@@ -436,7 +436,7 @@ class CallableStatementImplTests {
 	void shouldNotAllowMixingParameterTypes(StatementMethodRunner firstSetter, StatementMethodRunner secondSetter)
 			throws MalformedURLException, SQLException, IllegalAccessException {
 		this.statement = new CallableStatementImpl(mock(Connection.class), mock(Neo4jTransactionSupplier.class), null,
-				false, TEST_STATEMENT, new ParameterMetaDataImpl(0));
+				false, 0.0, false, 0, TEST_STATEMENT, new ParameterMetaDataImpl(0));
 
 		try {
 			firstSetter.run(this.statement);
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnIndexTests {
+
+	@Test
+	void shouldResolveIndexes() {
+		var keys = ColumnIndex.of(List.of("a", "b", "c", "b"));
+
+		assertThat(keys).containsExactly("a", "b", "c", "b");
+		assertThat(keys.indexOf("a")).isZero();
+		assertThat(keys.indexOf("b")).isOne();
+		assertThat(keys.indexOf("c")).isEqualTo(2);
+		assertThat(keys.indexOf("d")).isEqualTo(-1);
+		assertThat(keys.contains("c")).isTrue();
+		assertThat(keys.contains("d")).isFalse();
+	}
+
+	@Test
+	void shouldBehaveLikeAList() {
+		var keys = ColumnIndex.of(List.of("a", "b"));
+
+		assertThat(keys).isEqualTo(List.of("a", "b"));
+		assertThat(keys.hashCode()).isEqualTo(List.of("a", "b").hashCode());
+		assertThat(ColumnIndex.of(keys)).isSameAs(keys);
+	}
+
+	@Test
+	void shouldBeUsableForRecords() {
+		var keys = ColumnIndex.of(List.of("a", "b"));
+		var record = Record.of(keys, new Value[] { Values.value(1), Values.value(2) });
+
+		assertThat(record.index("b")).isOne();
+		assertThat(record.containsKey("a")).isTrue();
+		assertThat(record.get("b").asInt()).isEqualTo(2);
+		assertThat(record.get("x")).isEqualTo(Values.NULL);
+	}
+
+}
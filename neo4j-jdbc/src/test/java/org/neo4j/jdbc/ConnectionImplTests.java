@@ -37,6 +37,7 @@ import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -68,6 +69,8 @@ import org.neo4j.bolt.connection.summary.ResetSummary;
 import org.neo4j.bolt.connection.summary.RollbackSummary;
 import org.neo4j.jdbc.ConnectionImpl.TranslatorChain;
 import org.neo4j.jdbc.authn.spi.Authentication;
+import org.neo4j.jdbc.events.ConnectionListener;
+import org.neo4j.jdbc.events.ConnectionListener.TranslationCachedEvent;
 import org.neo4j.jdbc.internal.bolt.BoltAdapters;
 import org.neo4j.jdbc.translator.spi.Translator;
 
@@ -134,7 +137,8 @@ class ConnectionImplTests {
 		given(translator.translate(eq(sql), any(DatabaseMetaData.class))).willReturn(expectedNativeSql);
 		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
 				auth -> mock(BoltConnection.class), () -> List.of(translator), false, true, false, false,
-				new NoopBookmarkManagerImpl(), Map.of(), 23, "aBeautifulDatabase", null, List.of());
+				new NoopBookmarkManagerImpl(), Map.of(), 23, 0.0, false, 0, null, 0, false, 0, 0, 0, 64, false,
+				"aBeautifulDatabase", null, List.of());
 
 		var nativeSQL = connection.nativeSQL(sql);
 
@@ -142,6 +146,34 @@ class ConnectionImplTests {
 		then(translator).should(times(1)).translate(eq(sql), any(DatabaseMetaData.class));
 	}
 
+	@Test
+	void shouldNotHoldLockWhileTranslating() throws SQLException {
+		var translator = mock(Translator.class);
+		var listener = mock(ConnectionListener.class);
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+				auth -> mock(BoltConnection.class), () -> List.of(translator), false, true, false, false,
+				new NoopBookmarkManagerImpl(), Map.of(), 23, 0.0, false, 0, null, 0, false, 0, 0, 0, 64, false,
+				"aBeautifulDatabase", null, List.of(listener));
+		given(translator.translate(eq("inner"), any(DatabaseMetaData.class))).willReturn("innerCypher");
+		given(translator.translate(eq("outer"), any(DatabaseMetaData.class))).willAnswer(invocation -> {
+			// Translating on another thread blocks if the cache is locked meanwhile
+			var inner = CompletableFuture.supplyAsync(() -> {
+				try {
+					return connection.nativeSQL("inner");
+				}
+				catch (SQLException ex) {
+					throw new UncheckedSQLException(ex);
+				}
+			});
+			return inner.get(5, TimeUnit.SECONDS) + " outerCypher";
+		});
+
+		assertThat(connection.nativeSQL("outer")).isEqualTo("innerCypher outerCypher");
+		assertThat(connection.nativeSQL("outer")).isEqualTo("innerCypher outerCypher");
+		then(translator).should(times(1)).translate(eq("outer"), any(DatabaseMetaData.class));
+		then(listener).should(times(2)).onTranslationCached(any(TranslationCachedEvent.class));
+	}
+
 	@Test
 	void shouldBeAutoCommitByDefault() throws SQLException {
 		var connection = makeConnection(mock(BoltConnection.class));
@@ -464,7 +496,7 @@ class ConnectionImplTests {
 	}
 
 	@ParameterizedTest
-	@ValueSource(ints = { ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_SCROLL_SENSITIVE })
+	@ValueSource(ints = { ResultSet.TYPE_SCROLL_SENSITIVE })
 	void shouldThrowOnPreparingStatementWithUnsupportedResultSetType(int type) {
 		var connection = makeConnection(mock(BoltConnection.class));
 
@@ -770,8 +802,8 @@ class ConnectionImplTests {
 						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((ConnectionMethodRunner) connection -> connection.prepareStatement("ignored",
-						ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY,
-						ResultSet.CLOSE_CURSORS_AT_COMMIT), SQLFeatureNotSupportedException.class),
+						ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_READ_ONLY, ResultSet.CLOSE_CURSORS_AT_COMMIT),
+						SQLFeatureNotSupportedException.class),
 				Arguments.of((ConnectionMethodRunner) connection -> connection.prepareStatement("ignored",
 						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE, ResultSet.CLOSE_CURSORS_AT_COMMIT),
 						SQLFeatureNotSupportedException.class),
@@ -779,8 +811,8 @@ class ConnectionImplTests {
 						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((ConnectionMethodRunner) connection -> connection.prepareCall("ignored",
-						ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY,
-						ResultSet.CLOSE_CURSORS_AT_COMMIT), SQLFeatureNotSupportedException.class),
+						ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_READ_ONLY, ResultSet.CLOSE_CURSORS_AT_COMMIT),
+						SQLFeatureNotSupportedException.class),
 				Arguments.of((ConnectionMethodRunner) connection -> connection.prepareCall("ignored",
 						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE, ResultSet.CLOSE_CURSORS_AT_COMMIT),
 						SQLFeatureNotSupportedException.class),
@@ -843,8 +875,8 @@ class ConnectionImplTests {
 
 	ConnectionImpl makeConnection(BoltConnection boltConnection) {
 		return new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none, auth -> boltConnection,
-				List::of, false, false, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, "aBeautifulDatabase",
-				null, List.of());
+				List::of, false, false, true, false, new NoopBookmarkManagerImpl(), Map.of(), 23, 0.0, false, 0, null,
+				0, false, 0, 0, 0, 64, false, "aBeautifulDatabase", null, List.of());
 
 	}
 
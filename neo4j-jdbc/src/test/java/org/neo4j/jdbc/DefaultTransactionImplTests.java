@@ -20,13 +20,20 @@ package org.neo4j.jdbc;
 
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -67,7 +74,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 class DefaultTransactionImplTests {
@@ -119,6 +128,7 @@ class DefaultTransactionImplTests {
 				invocation.<ResponseHandler>getArgument(0).onComplete();
 				return CompletableFuture.completedFuture(null);
 			});
+		givenCommitInFlight(boltConnection);
 
 		var response = this.transaction.runAndPull(query, Collections.emptyMap(), fetchSize, 5);
 
@@ -138,12 +148,16 @@ class DefaultTransactionImplTests {
 		assertThat(beginMessage.bookmarks().isEmpty()).isTrue();
 		@SuppressWarnings("unchecked")
 		ArgumentCaptor<List<Message>> runMessagesCaptor = ArgumentCaptor.forClass(List.class);
-		then(boltConnection).should().writeAndFlush(any(), runMessagesCaptor.capture(), any());
-		var messages = runMessagesCaptor.getValue();
+		then(boltConnection).should(times(2)).writeAndFlush(any(), runMessagesCaptor.capture(), any());
+		var messages = runMessagesCaptor.getAllValues().get(0);
 		assertThat(messages.get(0)).isInstanceOf(RunMessage.class);
 		var runMessage = (RunMessage) messages.get(0);
 		assertThat(runMessage.query()).isEqualTo("query");
 		assertThat(messages.get(1)).isInstanceOf(PullMessage.class);
+		// The result has been consumed with the first batch, so the commit is sent right
+		// away
+		assertThat(runMessagesCaptor.getAllValues().get(1)).singleElement().isInstanceOf(CommitMessage.class);
+		assertThat(this.transaction.isCommitPending()).isTrue();
 		then(boltConnection).should().authInfo();
 		then(boltConnection).shouldHaveNoMoreInteractions();
 	}
@@ -192,6 +206,81 @@ class DefaultTransactionImplTests {
 		then(boltConnection).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldRunAndDiscardAsync() throws Exception {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var handler = new AtomicReference<ResponseHandler>();
+		var written = new CompletableFuture<Void>();
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				handler.set(invocation.getArgument(0));
+				return written;
+			});
+
+		var response = this.transaction.runAndDiscardAsync("query", Collections.emptyMap(), 0, true)
+			.toCompletableFuture();
+
+		assertThat(response).isNotDone();
+		handler.get().onRunSummary(mock(RunSummary.class));
+		handler.get().onDiscardSummary(mock(DiscardSummary.class));
+		handler.get().onComplete();
+		written.complete(null);
+		assertThat(response.get()).isNotNull();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+	}
+
+	@Test
+	void shouldRejectRequestsWhileAsyncRequestIsInFlight() throws Exception {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, false,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var handler = new AtomicReference<ResponseHandler>();
+		var written = new CompletableFuture<Void>();
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				handler.set(invocation.getArgument(0));
+				return written;
+			});
+
+		var response = this.transaction.runAndDiscardAsync("query", Collections.emptyMap(), 0, false)
+			.toCompletableFuture();
+
+		assertThatThrownBy(() -> this.transaction.runAndDiscard("query", Collections.emptyMap(), 0, false))
+			.isInstanceOf(SQLException.class)
+			.hasMessageContaining("asynchronous request is in flight");
+		assertThatThrownBy(() -> this.transaction.commit()).isInstanceOf(SQLException.class)
+			.hasMessageContaining("asynchronous request is in flight");
+		assertThat(this.transaction.runAndPullAsync("query", Collections.emptyMap(), 5, 0).toCompletableFuture())
+			.isCompletedExceptionally();
+		handler.get().onRunSummary(mock(RunSummary.class));
+		handler.get().onDiscardSummary(mock(DiscardSummary.class));
+		handler.get().onComplete();
+		written.complete(null);
+		assertThat(response.get()).isNotNull();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+	}
+
+	@Test
+	void shouldFailRunAndPullAsync() {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willReturn(CompletableFuture.failedFuture(new RuntimeException("oops")));
+
+		var response = this.transaction.runAndPullAsync("query", Collections.emptyMap(), 5, 0).toCompletableFuture();
+
+		assertThat(response).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(SQLException.class);
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.FAILED);
+	}
+
 	@Test
 	void shouldPull() throws SQLException {
 		var boltConnection = mockBoltConnection();
@@ -208,6 +297,7 @@ class DefaultTransactionImplTests {
 				invocation.<ResponseHandler>getArgument(0).onComplete();
 				return CompletableFuture.completedFuture(null);
 			});
+		givenCommitInFlight(boltConnection);
 
 		var response = this.transaction.pull(runResponse, fetchSize);
 
@@ -225,10 +315,491 @@ class DefaultTransactionImplTests {
 		var pullMessageCaptor = ArgumentCaptor.forClass(Message.class);
 		then(boltConnection).should().writeAndFlush(any(), pullMessageCaptor.capture(), any());
 		assertThat(pullMessageCaptor.getValue()).isInstanceOf(PullMessage.class);
+		then(boltConnection).should().writeAndFlush(any(), messageTypeMatcher(List.of(CommitMessage.class)), any());
+		then(boltConnection).should().authInfo();
+		then(boltConnection).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void shouldUseBatchPulledAhead() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		given(runResponse.queryId()).willReturn(-1L);
+
+		var pending = new CompletableFuture<Void>();
+		given(boltConnection.writeAndFlush(any(), any(PullMessage.class), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				return pending.thenRun(() -> {
+					handler.onPullSummary(mock(PullSummary.class));
+					handler.onComplete();
+				});
+			});
+
+		givenCommitInFlight(boltConnection);
+
+		this.transaction.pullAhead(runResponse, 5);
+		this.transaction.pullAhead(runResponse, 5);
+		pending.complete(null);
+		var response = this.transaction.pull(runResponse, 5);
+
+		assertThat(response).isNotNull();
+		assertThat(response.hasMore()).isFalse();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+		then(boltConnection).should().write(anyList());
+		var pullMessageCaptor = ArgumentCaptor.forClass(Message.class);
+		then(boltConnection).should().writeAndFlush(any(), pullMessageCaptor.capture(), any());
+		assertThat(pullMessageCaptor.getValue()).isInstanceOf(PullMessage.class);
+		assertThat(((PullMessage) pullMessageCaptor.getValue()).request()).isEqualTo(5L);
+		then(boltConnection).should().writeAndFlush(any(), messageTypeMatcher(List.of(CommitMessage.class)), any());
+		then(boltConnection).should().authInfo();
+		then(boltConnection).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	@Timeout(10)
+	void shouldCancelPendingRequestWithReset() throws Exception {
+		var boltConnection = mockBoltConnection();
+		var failedStates = new ArrayList<Neo4jTransaction.State>();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", failedStates::add,
+				Authentication.usernameAndPassword("foo", "bar"));
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		given(runResponse.queryId()).willReturn(-1L);
+		given(boltConnection.writeAndFlush(any(), any(PullMessage.class), any())).willReturn(new CompletableFuture<>());
+		given(boltConnection.writeAndFlush(any(), any(ResetMessage.class), any()))
+			.willReturn(CompletableFuture.completedFuture(null));
+
+		var pull = CompletableFuture.runAsync(() -> {
+			try {
+				this.transaction.pull(runResponse, 5);
+			}
+			catch (SQLException ex) {
+				throw new UncheckedSQLException(ex);
+			}
+		});
+		while (!pull.isDone()) {
+			this.transaction.cancel();
+			Thread.sleep(10);
+		}
+
+		assertThatThrownBy(pull::join).rootCause().hasMessageEndingWith("The request has been cancelled");
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.FAILED);
+		assertThat(failedStates).containsExactly(Neo4jTransaction.State.FAILED);
+		then(boltConnection).should().writeAndFlush(any(), any(ResetMessage.class), any());
+	}
+
+	@Test
+	@Timeout(10)
+	void shouldCancelAllRequestsOfBatchInFlight() throws Exception {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var sentRequests = new CopyOnWriteArrayList<CompletableFuture<Void>>();
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var request = new CompletableFuture<Void>();
+				sentRequests.add(request);
+				return request;
+			});
+		given(boltConnection.writeAndFlush(any(), any(ResetMessage.class), any()))
+			.willReturn(CompletableFuture.completedFuture(null));
+		var query = new Neo4jTransaction.BatchQuery("UNWIND $rows AS row CREATE (n)",
+				Map.of("rows", List.of(Map.of("x", 1))), DefaultTransactionImpl.MAX_BATCH_REQUEST_BYTES);
+
+		var batch = CompletableFuture.runAsync(() -> {
+			try {
+				this.transaction.runAndDiscardAll(List.of(query, query), 0, true);
+			}
+			catch (SQLException ex) {
+				throw new UncheckedSQLException(ex);
+			}
+		});
+		while (sentRequests.size() < 2) {
+			Thread.sleep(10);
+		}
+		this.transaction.cancel();
+
+		assertThatThrownBy(batch::join).rootCause().hasMessageEndingWith("The request has been cancelled");
+		assertThat(this.transaction.hasPendingRequests()).isFalse();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.FAILED);
+		then(boltConnection).should().writeAndFlush(any(), any(ResetMessage.class), any());
+	}
+
+	@Test
+	@Timeout(10)
+	void shouldBoundBytesOfBatchInFlight() throws Exception {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var sentRequests = new CopyOnWriteArrayList<CompletableFuture<Void>>();
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				var request = new CompletableFuture<Void>();
+				sentRequests.add(request);
+				return request.thenRun(() -> {
+					handler.onDiscardSummary(mock(DiscardSummary.class));
+					handler.onComplete();
+				});
+			});
+		var query = new Neo4jTransaction.BatchQuery("CREATE (n)", Map.of(),
+				DefaultTransactionImpl.MAX_BATCH_REQUEST_BYTES);
+
+		var batch = CompletableFuture.runAsync(() -> {
+			try {
+				this.transaction.runAndDiscardAll(List.of(query, query, query, query), 0, false);
+			}
+			catch (SQLException ex) {
+				throw new UncheckedSQLException(ex);
+			}
+		});
+		while (sentRequests.size() < 3) {
+			Thread.sleep(10);
+		}
+		Thread.sleep(100);
+
+		// The fourth request would exceed the bytes allowed in flight
+		assertThat(sentRequests).hasSize(3);
+		sentRequests.get(0).complete(null);
+		while (sentRequests.size() < 4) {
+			Thread.sleep(10);
+		}
+		sentRequests.forEach(request -> request.complete(null));
+		batch.join();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+	}
+
+	@Test
+	void cancelShouldBeNoopWithoutPendingRequest() {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+
+		this.transaction.cancel();
+
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+		then(boltConnection).should(never()).writeAndFlush(any(), any(ResetMessage.class), any());
+	}
+
+	@Test
+	void shouldAwaitBatchPulledAheadBeforeCommit() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, false,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)),
+				any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onRunSummary(mock(RunSummary.class));
+				var pullSummary = mock(PullSummary.class);
+				given(pullSummary.hasMore()).willReturn(true);
+				invocation.<ResponseHandler>getArgument(0).onPullSummary(pullSummary);
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		given(boltConnection.writeAndFlush(any(), any(PullMessage.class), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onPullSummary(mock(PullSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(CommitMessage.class)), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onCommitSummary(mock(CommitSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		var responses = this.transaction.runAndPull("query", Map.of(), 1, 0);
+		this.transaction.pullAhead(responses.runResponse(), 1);
+		this.transaction.commit();
+
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		then(boltConnection).should().write(anyList());
+		then(boltConnection).should()
+			.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)), any());
+		then(boltConnection).should().writeAndFlush(any(), any(PullMessage.class), any());
+		// The result has been exhausted by pulling ahead, so no discard is needed
+		then(boltConnection).should().writeAndFlush(any(), messageTypeMatcher(List.of(CommitMessage.class)), any());
+		then(boltConnection).should().authInfo();
+		then(boltConnection).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void shouldPipelineDiscardOfAbandonedResultWithNextRun() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, false,
+				AccessMode.WRITE, Neo4jTransaction.State.READY, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+
+		Answer<CompletableFuture<Void>> runAndPullAnswer = invocation -> {
+			invocation.<ResponseHandler>getArgument(0).onRunSummary(mock(RunSummary.class));
+			var pullSummary = mock(PullSummary.class);
+			given(pullSummary.hasMore()).willReturn(true);
+			invocation.<ResponseHandler>getArgument(0).onPullSummary(pullSummary);
+			invocation.<ResponseHandler>getArgument(0).onComplete();
+			return CompletableFuture.completedFuture(null);
+		};
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)),
+				any()))
+			.willAnswer(runAndPullAnswer);
+		given(boltConnection.writeAndFlush(any(),
+				messageTypeMatcher(List.of(DiscardMessage.class, RunMessage.class, PullMessage.class)), any()))
+			.willAnswer(runAndPullAnswer);
+		given(boltConnection.writeAndFlush(any(),
+				messageTypeMatcher(List.of(DiscardMessage.class, CommitMessage.class)), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onCommitSummary(mock(CommitSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		var responses = this.transaction.runAndPull("query", Map.of(), 1, 0);
+		this.transaction.discard(responses.runResponse());
+		this.transaction.runAndPull("query", Map.of(), 1, 0);
+		this.transaction.commit();
+
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		then(boltConnection).should().write(anyList());
+		then(boltConnection).should()
+			.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)), any());
+		then(boltConnection).should()
+			.writeAndFlush(any(),
+					messageTypeMatcher(List.of(DiscardMessage.class, RunMessage.class, PullMessage.class)), any());
+		// Only the second result is still open
+		then(boltConnection).should()
+			.writeAndFlush(any(), messageTypeMatcher(List.of(DiscardMessage.class, CommitMessage.class)), any());
 		then(boltConnection).should().authInfo();
 		then(boltConnection).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldPipelineBatchIntoSingleRequest() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		given(boltConnection.writeAndFlush(any(),
+				messageTypeMatcher(List.of(RunMessage.class, DiscardMessage.class, RunMessage.class,
+						DiscardMessage.class, CommitMessage.class)),
+				any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				for (var nodesCreated : List.of(1L, 2L)) {
+					handler.onRunSummary(mock(RunSummary.class));
+					var discardSummary = mock(DiscardSummary.class);
+					given(discardSummary.metadata()).willReturn(Map.of("stats",
+							BoltAdapters.getValueFactory().value(Map.of("nodes-created", nodesCreated))));
+					handler.onDiscardSummary(discardSummary);
+				}
+				handler.onCommitSummary(mock(CommitSummary.class));
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		var responses = this.transaction
+			.runAndDiscardAll(List.of(new Neo4jTransaction.BatchQuery("CREATE (n)", Map.of()),
+					new Neo4jTransaction.BatchQuery("CREATE (n), (m)", Map.of())), 0, true);
+
+		assertThat(responses).hasSize(2)
+			.map(response -> response.resultSummary().orElseThrow().counters().nodesCreated())
+			.containsExactly(1, 2);
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		then(boltConnection).should().write(anyList());
+		then(boltConnection).should().writeAndFlush(any(), anyList(), any());
+		then(boltConnection).should().authInfo();
+		then(boltConnection).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void shouldPipelineScriptIntoSingleRequest() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(
+				List.of(RunMessage.class, PullMessage.class, RunMessage.class, PullMessage.class)), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				for (var hasMore : List.of(false, true)) {
+					var runSummary = mock(RunSummary.class);
+					given(runSummary.keys()).willReturn(List.of("n"));
+					handler.onRunSummary(runSummary);
+					handler.onRecord(List.of(BoltAdapters.getValueFactory().value(hasMore ? 2L : 1L)));
+					var pullSummary = mock(PullSummary.class);
+					given(pullSummary.hasMore()).willReturn(hasMore);
+					handler.onPullSummary(pullSummary);
+				}
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		var responses = this.transaction
+			.runAndPullAll(List.of(new Neo4jTransaction.BatchQuery("RETURN 1 AS n", Map.of()),
+					new Neo4jTransaction.BatchQuery("UNWIND [2, 3] AS n RETURN n", Map.of())), 1, 0);
+
+		assertThat(responses).hasSize(2)
+			.map(response -> response.pullResponse().records().get(0).get("n").asLong())
+			.containsExactly(1L, 2L);
+		assertThat(responses).map(response -> response.pullResponse().hasMore()).containsExactly(false, true);
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+		// The second result is still open, so the commit must not be pipelined
+		assertThat(this.transaction.isCommitPending()).isFalse();
+		then(boltConnection).should().write(anyList());
+		then(boltConnection).should().writeAndFlush(any(), anyList(), any());
+		then(boltConnection).should().authInfo();
+		then(boltConnection).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void shouldSplitLargeBatchIntoSeveralRequests() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				for (var message : invocation.<List<Message>>getArgument(1)) {
+					if (message instanceof DiscardMessage) {
+						var discardSummary = mock(DiscardSummary.class);
+						given(discardSummary.metadata()).willReturn(Map.of("stats", BoltAdapters.getValueFactory()
+							.value(Map.of("nodes-created", 1000L))));
+						handler.onDiscardSummary(discardSummary);
+					}
+					else if (message instanceof CommitMessage) {
+						handler.onCommitSummary(mock(CommitSummary.class));
+					}
+				}
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		var query = new Neo4jTransaction.BatchQuery("UNWIND $rows AS row CREATE (n)",
+				Map.of("rows", List.of(Map.of("x", 1))), DefaultTransactionImpl.MAX_BATCH_REQUEST_BYTES);
+
+		var responses = this.transaction.runAndDiscardAll(List.of(query, query, query), 0, true);
+
+		assertThat(responses).hasSize(3)
+			.map(response -> response.resultSummary().orElseThrow().counters().nodesCreated())
+			.containsOnly(1000);
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		var inOrder = inOrder(boltConnection);
+		inOrder.verify(boltConnection, times(2))
+			.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, DiscardMessage.class)), any());
+		inOrder.verify(boltConnection)
+			.writeAndFlush(any(),
+					messageTypeMatcher(List.of(RunMessage.class, DiscardMessage.class, CommitMessage.class)), any());
+	}
+
+	@Test
+	void shouldEvaluatePipelinedCommitOnCommit() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)),
+				any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onRunSummary(mock(RunSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onPullSummary(mock(PullSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		var commit = givenCommitInFlight(boltConnection);
+
+		this.transaction.runAndPull("query", Collections.emptyMap(), 5, 0);
+		assertThat(this.transaction.isCommitPending()).isTrue();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+		assertThatThrownBy(() -> this.transaction.runAndPull("query", Collections.emptyMap(), 5, 0))
+			.isInstanceOf(SQLException.class);
+		commit.complete(null);
+		this.transaction.commit();
+
+		assertThat(this.transaction.isCommitPending()).isFalse();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		then(boltConnection).should().writeAndFlush(any(), messageTypeMatcher(List.of(CommitMessage.class)), any());
+	}
+
+	@Test
+	void shouldApplyPipelinedCommitOnlyOnCommit() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = newAutoCommitTransactionWithConsumedResult(boltConnection);
+		var commit = givenCommitInFlight(boltConnection);
+
+		this.transaction.runAndPull("query", Collections.emptyMap(), 5, 0);
+		commit.complete(null);
+
+		assertThat(this.transaction.isCommitPending()).isTrue();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.READY);
+		this.transaction.commit();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+	}
+
+	@Test
+	void shouldRecordFailureOfPipelinedCommit() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = newAutoCommitTransactionWithConsumedResult(boltConnection);
+		var commit = givenCommitInFlight(boltConnection);
+
+		this.transaction.runAndPull("query", Collections.emptyMap(), 5, 0);
+		commit.completeExceptionally(new RuntimeException("Commit failed"));
+
+		assertThatThrownBy(() -> this.transaction.commit()).isInstanceOf(SQLException.class);
+		assertThat(this.transaction.isCommitPending()).isFalse();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.FAILED);
+		assertThatThrownBy(() -> this.transaction.commit()).isInstanceOf(SQLException.class);
+	}
+
+	@Test
+	void shouldNotRollbackPipelinedCommit() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = newAutoCommitTransactionWithConsumedResult(boltConnection);
+		var commit = givenCommitInFlight(boltConnection);
+
+		this.transaction.runAndPull("query", Collections.emptyMap(), 5, 0);
+
+		assertThatThrownBy(() -> this.transaction.rollback()).isInstanceOf(SQLException.class)
+			.hasMessageContaining("already been committed");
+		assertThat(this.transaction.isCommitPending()).isTrue();
+		commit.complete(null);
+		this.transaction.commit();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		then(boltConnection).should(never()).writeAndFlush(any(), messageTypeMatcher(List.of(RollbackMessage.class)),
+				any());
+	}
+
+	@Test
+	void shouldNotPipelineCommitWithOpenResults() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var pullSummary = mock(PullSummary.class);
+		given(pullSummary.hasMore()).willReturn(true);
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)),
+				any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onRunSummary(mock(RunSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onPullSummary(pullSummary);
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		this.transaction.runAndPull("query", Collections.emptyMap(), 5, 0);
+
+		assertThat(this.transaction.isCommitPending()).isFalse();
+		then(boltConnection).should(never())
+			.writeAndFlush(any(), messageTypeMatcher(List.of(CommitMessage.class)), any());
+	}
+
 	@Test
 	void shouldCommit() throws SQLException {
 		var boltConnection = mockBoltConnection();
@@ -767,6 +1338,39 @@ class DefaultTransactionImplTests {
 				Arguments.of((TransactionMethodRunner) Neo4jTransaction::rollback));
 	}
 
+	/**
+	 * Stubs the commit so that its response arrives once the returned future is
+	 * completed.
+	 * @param boltConnection the connection to stub
+	 * @return the future that completes the commit
+	 */
+	private static DefaultTransactionImpl newAutoCommitTransactionWithConsumedResult(BoltConnection boltConnection) {
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)),
+				any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onRunSummary(mock(RunSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onPullSummary(mock(PullSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		return new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true, AccessMode.WRITE, null,
+				"aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+	}
+
+	private static CompletableFuture<Void> givenCommitInFlight(BoltConnection boltConnection) {
+		var pending = new CompletableFuture<Void>();
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(CommitMessage.class)), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				return pending.thenRun(() -> {
+					handler.onCommitSummary(mock(CommitSummary.class));
+					handler.onComplete();
+				});
+			});
+		return pending;
+	}
+
 	private static List<Message> messageTypeMatcher(List<Class<? extends Message>> messageTypes) {
 		return ArgumentMatchers.argThat(messages -> {
 			var matches = messages != null && messages.size() == messageTypes.size();
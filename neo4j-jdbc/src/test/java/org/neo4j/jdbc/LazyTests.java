@@ -61,6 +61,16 @@ class LazyTests {
 		assertThat(cnt.get()).isEqualTo(2);
 	}
 
+	@Test
+	void shouldNotResolveWhenAskedForResolvedValue() {
+		var cnt = new AtomicInteger(0);
+		var lazy = Lazy.of(cnt::incrementAndGet);
+		assertThat(lazy.getIfResolved()).isNull();
+		assertThat(cnt.get()).isZero();
+		assertThat(lazy.resolve()).isOne();
+		assertThat(lazy.getIfResolved()).isOne();
+	}
+
 	@Test
 	void shouldNotWrapRuntimeException() {
 		var lazy = Lazy.of(() -> {
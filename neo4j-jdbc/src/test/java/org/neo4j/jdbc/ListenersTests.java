@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListenersTests {
+
+	@Test
+	void shouldBeEmptyInitially() {
+		var listeners = new Listeners<Consumer<String>>();
+		assertThat(listeners.isEmpty()).isTrue();
+		assertThat(listeners.anyMatch(listener -> true)).isFalse();
+	}
+
+	@Test
+	void shouldNotAddListenersTwice() {
+		var events = new ArrayList<String>();
+		Consumer<String> listener = events::add;
+		var listeners = new Listeners<Consumer<String>>();
+		listeners.add(listener);
+		listeners.add(listener);
+
+		listeners.notify("an event", Consumer::accept);
+
+		assertThat(listeners.isEmpty()).isFalse();
+		assertThat(events).containsExactly("an event");
+	}
+
+	@Test
+	void shouldNotifyAllListenersInOrderDespiteFailures() {
+		var events = new ArrayList<String>();
+		var listeners = new Listeners<Consumer<String>>();
+		listeners.add(event -> events.add("1:" + event));
+		listeners.add(event -> {
+			throw new IllegalStateException("Failing listener");
+		});
+		listeners.add(event -> events.add("3:" + event));
+
+		listeners.notify("an event", Consumer::accept);
+
+		assertThat(events).containsExactly("1:an event", "3:an event");
+	}
+
+	@Test
+	void addAllShouldNotAffectTheSource() {
+		var events = new ArrayList<String>();
+		var source = new Listeners<Consumer<String>>();
+		source.add(event -> events.add("source:" + event));
+
+		var target = new Listeners<Consumer<String>>();
+		target.addAll(source);
+		target.add(event -> events.add("target:" + event));
+
+		source.notify("a", Consumer::accept);
+		target.notify("b", Consumer::accept);
+
+		assertThat(events).containsExactly("source:a", "source:b", "target:b");
+	}
+
+	@Test
+	void forEachShouldVisitAllListeners() {
+		var listeners = new Listeners<Consumer<String>>();
+		Consumer<String> a = event -> {
+		};
+		Consumer<String> b = event -> {
+		};
+		listeners.add(a);
+		listeners.add(b);
+
+		var visited = new ArrayList<Consumer<String>>();
+		listeners.forEach(visited::add);
+
+		assertThat(visited).isEqualTo(List.of(a, b));
+	}
+
+}
@@ -20,6 +20,8 @@ package org.neo4j.jdbc;
 
 import java.net.URI;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -40,4 +42,30 @@ class MetricsCollectorImplTests {
 		assertThat(Events.cleanURL(in)).isEqualTo(expected);
 	}
 
+	@Test
+	void shouldExposeResultMemoryBudget() {
+		var meterRegistry = new SimpleMeterRegistry();
+		var budget = new ResultMemoryBudget(1024);
+		MetricsCollectorImpl.of(meterRegistry).register(budget);
+		budget.reserve(new Object(), 100);
+
+		assertThat(meterRegistry.get("org.neo4j.jdbc.result-memory.budget").gauge().value()).isEqualTo(1024.0);
+		assertThat(meterRegistry.get("org.neo4j.jdbc.result-memory.used").gauge().value()).isEqualTo(100.0);
+	}
+
+	@Test
+	void shouldExposeResultMemoryBudgetPerDriver() {
+		var meterRegistry = new SimpleMeterRegistry();
+		var budget1 = new ResultMemoryBudget(1024);
+		var budget2 = new ResultMemoryBudget(2048);
+		MetricsCollectorImpl.of(meterRegistry).register(budget1);
+		MetricsCollectorImpl.of(meterRegistry).register(budget2);
+
+		assertThat(meterRegistry.get("org.neo4j.jdbc.result-memory.budget").tag("driver", budget1.id()).gauge().value())
+			.isEqualTo(1024.0);
+		assertThat(meterRegistry.get("org.neo4j.jdbc.result-memory.budget").tag("driver", budget2.id()).gauge().value())
+			.isEqualTo(2048.0);
+		assertThat(meterRegistry.get("org.neo4j.jdbc.result-memory.used").gauges()).hasSize(2);
+	}
+
 }
@@ -62,6 +62,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 
 @SuppressWarnings("resource")
 class Neo4jDriverUrlParsingTests {
@@ -390,6 +391,9 @@ class Neo4jDriverUrlParsingTests {
 		assertThat(config.agent()).isEqualTo("neo4j-jdbc/dev");
 		assertThat(config.timeout()).isEqualTo(1000);
 		assertThat(config.relationshipSampleSize()).isEqualTo(1000);
+		assertThat(config.readAheadWatermark()).isZero();
+		assertThat(config.adaptiveFetchSize()).isFalse();
+		assertThat(config.adaptiveFetchSizeMemoryLimit()).isEqualTo(16L * 1024 * 1024);
 		assertThat(config.enableSQLTranslation()).isFalse();
 		assertThat(config.enableTranslationCaching()).isFalse();
 		assertThat(config.rewriteBatchedStatements()).isTrue();
@@ -474,6 +478,66 @@ class Neo4jDriverUrlParsingTests {
 			.withMessage("data exception - Sample size for relationships must be greater than or equal -1");
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = { "-0.1", "1.5" })
+	void readAheadWatermarkShouldBeValidated(String watermark) {
+		var properties = new Properties();
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234/?readAheadWatermark=" + watermark,
+					properties))
+			.withMessage("data exception - The read ahead watermark must be between 0 and 1");
+	}
+
+	@Test
+	void scrollableResultSetSegmentSizeShouldBeValidated() {
+		var properties = new Properties();
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234/?scrollableResultSetSegmentSize=0",
+					properties))
+			.withMessage("data exception - The scrollable result set segment size must be greater than 0");
+	}
+
+	@Test
+	void multiQueriesShouldBeOptIn() throws SQLException {
+		var properties = new Properties();
+		assertThat(Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234/", properties).allowMultiQueries()).isFalse();
+		assertThat(Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234/?allowMultiQueries=true", properties)
+			.allowMultiQueries()).isTrue();
+	}
+
+	@Test
+	void resultMemoryBudgetShouldBeConfiguredOnce() throws SQLException {
+		var driver = new Neo4jDriver(this.factories);
+		var props = new Properties();
+		props.put("username", "test");
+		props.put("password", "password");
+
+		driver.connect("jdbc:neo4j://host/?resultMemoryBudget=1024", props);
+		driver.connect("jdbc:neo4j://host/?resultMemoryBudget=1024", props);
+		driver.connect("jdbc:neo4j://host/", props);
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> driver.connect("jdbc:neo4j://host/?resultMemoryBudget=2048", props))
+			.withMessageContaining("is 1024 bytes and cannot be changed to 2048 bytes")
+			.satisfies(ex -> assertThat(ex.getSQLState()).isEqualTo("22N02"));
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> driver.connect("jdbc:neo4j://host/?resultMemoryBudget=0", props));
+		then(this.boltConnectionProvider).should(times(3))
+			.connect(any(), any(), any(), any(), anyInt(), anyLong(), any(), any(), any(), any(), any());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "readAheadWatermark", "adaptiveFetchSizeMemoryLimit", "resultMemoryBudget",
+			"batchChunkSize", "batchAutoFlushRows", "batchAutoFlushBytes", "scrollableResultSetMemoryThreshold",
+			"scrollableResultSetSegmentSize" })
+	void numericPropertiesShouldBeValidated(String property) {
+		var properties = new Properties();
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> Neo4jDriver.DriverConfig.of("jdbc:neo4j://host:1234/?" + property + "=lots", properties))
+			.withMessage("data exception - The value of %s must be a number but was 'lots'", property)
+			.satisfies(ex -> assertThat(ex.getSQLState()).isEqualTo("22N02"))
+			.withCauseInstanceOf(NumberFormatException.class);
+	}
+
 	@ParameterizedTest
 	@CsvSource(textBlock = """
 				true,''
@@ -53,6 +53,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
@@ -70,9 +71,13 @@ import org.neo4j.jdbc.values.Values;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class PreparedStatementImplTests {
 
@@ -123,7 +128,8 @@ class PreparedStatementImplTests {
 
 	private static PreparedStatementImpl newStatement(Connection connection,
 			Neo4jTransactionSupplier transactionSupplier, String query) {
-		return new PreparedStatementImpl(connection, transactionSupplier, null, null, null, false, false, query);
+		return new PreparedStatementImpl(connection, transactionSupplier, null, null, null, false, false, 0.0, false, 0,
+				query);
 	}
 
 	@Test
@@ -155,6 +161,199 @@ class PreparedStatementImplTests {
 		then(transaction).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldPipelineBatchWithoutRewriting() throws SQLException {
+		// given
+		var query = "CREATE (n:Foo {bar: $1})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var counters = mock(SummaryCounters.class);
+		given(counters.nodesCreated()).willReturn(1);
+		var resultSummary = mock(Neo4jTransaction.ResultSummary.class);
+		given(resultSummary.counters()).willReturn(counters);
+		var discardResponse = mock(Neo4jTransaction.DiscardResponse.class);
+		given(discardResponse.resultSummary()).willReturn(Optional.of(resultSummary));
+		var queries = List.of(new Neo4jTransaction.BatchQuery(query, Map.of("1", Values.value("a"))),
+				new Neo4jTransaction.BatchQuery(query, Map.of("1", Values.value("b"))));
+		given(transaction.runAndDiscardAll(queries, 0, true)).willReturn(List.of(discardResponse, discardResponse));
+		this.statement = newStatement(StatementImplTests.mockConnection(), transactionSupplier, query);
+
+		// when
+		this.statement.setString(1, "a");
+		this.statement.addBatch();
+		this.statement.setString(1, "b");
+		this.statement.addBatch();
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(1, 1, Statement.SUCCESS_NO_INFO);
+		then(transaction).should().runAndDiscardAll(queries, 0, true);
+		then(transaction).should(never()).runAndDiscard(any(), any(), anyInt(), anyBoolean());
+	}
+
+	@Test
+	void shouldChunkRewrittenBatch() throws SQLException {
+		// given
+		var query = "CREATE (n:Foo {bar: $1})";
+		var rewrittenQuery = "UNWIND $__parameters AS __parameter CREATE (n:Foo {bar: __parameter['1']})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var queries = List.of(
+				new Neo4jTransaction.BatchQuery(rewrittenQuery,
+						Map.of("__parameters",
+								Values.value(Values.value(Map.of("1", Values.value("a"))),
+										Values.value(Map.of("1", Values.value("b")))))),
+				new Neo4jTransaction.BatchQuery(rewrittenQuery,
+						Map.of("__parameters", Values.value(Values.value(Map.of("1", Values.value("c")))))));
+		var firstResponse = newDiscardResponse(2);
+		var secondResponse = newDiscardResponse(1);
+		given(transaction.runAndDiscardAll(queries, 0, true)).willReturn(List.of(firstResponse, secondResponse));
+		this.statement = new PreparedStatementImpl(StatementImplTests.mockConnection(), transactionSupplier, null, null,
+				null, false, true, 0.0, false, 0, query);
+		this.statement.setBatchChunking(2, false);
+
+		// when
+		for (var value : List.of("a", "b", "c")) {
+			this.statement.setString(1, value);
+			this.statement.addBatch();
+		}
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(3);
+		then(transaction).should().runAndDiscardAll(queries, 0, true);
+	}
+
+	@Test
+	void shouldHoistConstantParametersOutOfRewrittenBatch() throws SQLException {
+		// given
+		var query = "CREATE (n:Foo {bar: $1, tenant: $2})";
+		var rewrittenQuery = "UNWIND $__parameters AS __parameter CREATE (n:Foo {bar: __parameter['1'], tenant: $2})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var queries = List.of(new Neo4jTransaction.BatchQuery(rewrittenQuery, Map.of("2", Values.value("t"),
+				"__parameters", Values.value(Values.value(Map.of("1", Values.value("a"))),
+						Values.value(Map.of("1", Values.value("b")))))));
+		var response = newDiscardResponse(2);
+		given(transaction.runAndDiscardAll(queries, 0, true)).willReturn(List.of(response));
+		this.statement = new PreparedStatementImpl(StatementImplTests.mockConnection(), transactionSupplier, null, null,
+				null, false, true, 0.0, false, 0, query);
+
+		// when
+		for (var value : List.of("a", "b")) {
+			this.statement.setString(1, value);
+			this.statement.setString(2, "t");
+			this.statement.addBatch();
+		}
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(2);
+		then(transaction).should().runAndDiscardAll(queries, 0, true);
+	}
+
+	@Test
+	void shouldCommitChunksOfRewrittenBatchSeparately() throws SQLException {
+		// given
+		var query = "CREATE (n:Foo {bar: $1})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var firstResponse = newDiscardResponse(2);
+		var secondResponse = newDiscardResponse(1);
+		given(transaction.runAndDiscardAll(any(), anyInt(), anyBoolean())).willReturn(List.of(firstResponse))
+			.willReturn(List.of(secondResponse));
+		var connection = StatementImplTests.mockConnection();
+		given(connection.getAutoCommit()).willReturn(true);
+		this.statement = new PreparedStatementImpl(connection, transactionSupplier, null, null, null, false, true, 0.0,
+				false, 0, query);
+		this.statement.setBatchChunking(2, true);
+
+		// when
+		for (var value : List.of("a", "b", "c")) {
+			this.statement.setString(1, value);
+			this.statement.addBatch();
+		}
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(3);
+		then(transaction).should(times(2)).runAndDiscardAll(any(), anyInt(), anyBoolean());
+	}
+
+	@Test
+	void shouldAutoFlushRewrittenBatch() throws SQLException {
+		// given
+		var query = "CREATE (n:Foo {bar: $1})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var firstResponse = newDiscardResponse(2);
+		var secondResponse = newDiscardResponse(1);
+		given(transaction.runAndDiscardAll(any(), anyInt(), anyBoolean())).willReturn(List.of(firstResponse))
+			.willReturn(List.of(secondResponse));
+		this.statement = new PreparedStatementImpl(StatementImplTests.mockConnection(), transactionSupplier, null, null,
+				null, false, true, 0.0, false, 0, query);
+		this.statement.setBatchAutoFlush(2, 0);
+
+		// when
+		for (var value : List.of("a", "b")) {
+			this.statement.setString(1, value);
+			this.statement.addBatch();
+		}
+		then(transaction).should().runAndDiscardAll(any(), anyInt(), anyBoolean());
+		this.statement.setString(1, "c");
+		this.statement.addBatch();
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(3);
+		then(transaction).should(times(2)).runAndDiscardAll(any(), anyInt(), anyBoolean());
+	}
+
+	@Test
+	void shouldAutoFlushPipelinedBatch() throws SQLException {
+		// given
+		var query = "CREATE (n:Foo {bar: $1})";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var response = newDiscardResponse(1);
+		given(transaction.runAndDiscardAll(any(), anyInt(), anyBoolean())).willReturn(List.of(response, response));
+		this.statement = newStatement(StatementImplTests.mockConnection(), transactionSupplier, query);
+		this.statement.setBatchAutoFlush(2, 0);
+
+		// when
+		for (var value : List.of("a", "b", "c", "d")) {
+			this.statement.setString(1, value);
+			this.statement.addBatch();
+		}
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(1, 1, 1, 1, Statement.SUCCESS_NO_INFO);
+		then(transaction).should(times(2)).runAndDiscardAll(any(), anyInt(), anyBoolean());
+	}
+
+	private static Neo4jTransaction.DiscardResponse newDiscardResponse(int nodesCreated) {
+		var counters = mock(SummaryCounters.class);
+		given(counters.nodesCreated()).willReturn(nodesCreated);
+		var resultSummary = mock(Neo4jTransaction.ResultSummary.class);
+		given(resultSummary.counters()).willReturn(counters);
+		var discardResponse = mock(Neo4jTransaction.DiscardResponse.class);
+		given(discardResponse.resultSummary()).willReturn(Optional.of(resultSummary));
+		return discardResponse;
+	}
+
 	@Test
 	void shouldExecuteQueryUsingMultipleResultsApi() throws SQLException {
 		// given
@@ -294,12 +493,12 @@ class PreparedStatementImplTests {
 	}
 
 	static Stream<Arguments> getShouldThrowUnsupportedArgs() {
-		return Stream.of(Arguments.of((StatementMethodRunner) Statement::cancel, SQLFeatureNotSupportedException.class),
+		return Stream.of(
 				Arguments.of((StatementMethodRunner) statement -> statement.setCursorName("name"),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) statement -> statement.addBatch("query"), SQLException.class),
 				Arguments.of(
-						(StatementMethodRunner) statement -> statement.getMoreResults(Statement.CLOSE_CURRENT_RESULT),
+						(StatementMethodRunner) statement -> statement.getMoreResults(Statement.KEEP_CURRENT_RESULT),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) Statement::getGeneratedKeys,
 						SQLFeatureNotSupportedException.class),
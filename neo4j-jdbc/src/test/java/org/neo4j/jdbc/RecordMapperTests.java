@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class RecordMapperTests {
+
+	private static final List<String> KEYS = List.of("title", "RELEASED", "rating", "premiere", "extra");
+
+	private static Record record(Value released) {
+		return Record.of(KEYS, new Value[] { Values.value("The Matrix"), released, Values.value(8.7),
+				Values.value(LocalDate.of(1999, 3, 31)), Values.value("ignored") });
+	}
+
+	@Test
+	void shouldMapToRecords() throws SQLException {
+		var mapper = RecordMapper.of(KEYS, Movie.class);
+		var movie = mapper.map(record(Values.value(1999)), 0);
+		assertThat(movie).isEqualTo(new Movie("The Matrix", 1999, 8.7, LocalDate.of(1999, 3, 31)));
+	}
+
+	@Test
+	void shouldMapNullToDefaultOfPrimitives() throws SQLException {
+		var movie = RecordMapper.of(KEYS, Movie.class).map(record(Values.NULL), 0);
+		assertThat(movie.released()).isZero();
+	}
+
+	@Test
+	void shouldRespectMaxFieldSize() throws SQLException {
+		var movie = RecordMapper.of(KEYS, Movie.class).map(record(Values.value(1999)), 3);
+		assertThat(movie.title()).isEqualTo("The");
+	}
+
+	@Test
+	void shouldMapToBeans() throws SQLException {
+		var bean = RecordMapper.of(KEYS, MovieBean.class).map(record(Values.NULL), 0);
+		assertThat(bean.getTitle()).isEqualTo("The Matrix");
+		assertThat(bean.getReleased()).isNull();
+		assertThat(bean.getRating()).isEqualTo(8.7);
+	}
+
+	@Test
+	void shouldCacheMappers() throws SQLException {
+		assertThat(RecordMapper.of(KEYS, Movie.class)).isSameAs(RecordMapper.of(List.copyOf(KEYS), Movie.class));
+		assertThat(RecordMapper.of(KEYS, Movie.class).isFor(Movie.class)).isTrue();
+	}
+
+	@Test
+	void shouldBoundCachedLayoutsPerType() throws SQLException {
+		var movieMapper = RecordMapper.of(KEYS, Movie.class);
+		var firstLayout = List.of("title", "layout0");
+		var firstMapper = RecordMapper.of(firstLayout, MovieBean.class);
+		for (int i = 1; i <= RecordMapper.MAX_CACHED_LAYOUTS; ++i) {
+			RecordMapper.of(List.of("title", "layout" + i), MovieBean.class);
+		}
+		var uncachedLayout = List.of("title", "uncached");
+
+		assertThat(RecordMapper.of(uncachedLayout, MovieBean.class))
+			.isNotSameAs(RecordMapper.of(uncachedLayout, MovieBean.class));
+		assertThat(RecordMapper.of(firstLayout, MovieBean.class)).isSameAs(firstMapper);
+		assertThat(RecordMapper.of(KEYS, Movie.class)).isSameAs(movieMapper);
+	}
+
+	@Test
+	void shouldFailOnMissingComponents() {
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> RecordMapper.of(List.of("title"), Movie.class))
+			.withMessageContaining("released");
+	}
+
+	@Test
+	void shouldFailOnUninstantiableTypes() {
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> RecordMapper.of(KEYS, Runnable.class));
+	}
+
+	@Test
+	void shouldFailOnIncompatibleValues() throws SQLException {
+		var mapper = RecordMapper.of(KEYS, Movie.class);
+		var record = record(Values.value(List.of(1)));
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> mapper.map(record, 0));
+	}
+
+	record Movie(String title, int released, double rating, LocalDate premiere) {
+	}
+
+	public static class MovieBean {
+
+		private String title;
+
+		private Long released;
+
+		private double rating;
+
+		public String getTitle() {
+			return this.title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public Long getReleased() {
+			return this.released;
+		}
+
+		public void setReleased(Long released) {
+			this.released = released;
+		}
+
+		public double getRating() {
+			return this.rating;
+		}
+
+		public void setRating(double rating) {
+			this.rating = rating;
+		}
+
+	}
+
+}
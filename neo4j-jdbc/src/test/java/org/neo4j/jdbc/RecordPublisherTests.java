@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordPublisherTests {
+
+	@Test
+	void shouldPassDemandToCursor() {
+		var cursor = new TestCursor(5);
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(cursor, Runnable::run).subscribe(subscriber);
+
+		subscriber.subscription.request(3);
+		assertThat(subscriber.received).hasSize(3);
+		assertThat(cursor.demands).containsExactly(3L, 2L, 1L);
+
+		subscriber.subscription.request(10);
+		assertThat(subscriber.received).hasSize(5);
+		assertThat(subscriber.completed).isTrue();
+		assertThat(cursor.closed).isTrue();
+	}
+
+	@Test
+	void shouldNotPullOnRequestingThread() {
+		var cursor = new TestCursor(5);
+		var subscriber = new TestSubscriber();
+		var scheduled = new ArrayDeque<Runnable>();
+		new RecordPublisher(cursor, scheduled::add).subscribe(subscriber);
+
+		subscriber.subscription.request(2);
+		subscriber.subscription.request(1);
+		assertThat(cursor.demands).isEmpty();
+		assertThat(subscriber.received).isEmpty();
+		assertThat(scheduled).hasSize(1);
+
+		scheduled.poll().run();
+		assertThat(cursor.demands).containsExactly(3L, 2L, 1L);
+		assertThat(subscriber.received).hasSize(3);
+	}
+
+	@Test
+	void shouldHandleReentrantRequests() {
+		var cursor = new TestCursor(3);
+		var subscriber = new TestSubscriber() {
+			@Override
+			public void onNext(Record item) {
+				super.onNext(item);
+				this.subscription.request(1);
+			}
+		};
+		new RecordPublisher(cursor, Runnable::run).subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		assertThat(subscriber.received).hasSize(3);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	void shouldCloseCursorOnCancel() {
+		var cursor = new TestCursor(5);
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(cursor, Runnable::run).subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(1);
+		assertThat(subscriber.received).hasSize(1);
+		assertThat(subscriber.completed).isFalse();
+		assertThat(cursor.closed).isTrue();
+	}
+
+	@Test
+	void shouldRejectNonPositiveDemand() {
+		var cursor = new TestCursor(5);
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(cursor, Runnable::run).subscribe(subscriber);
+
+		subscriber.subscription.request(0);
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		assertThat(cursor.closed).isTrue();
+	}
+
+	@Test
+	void shouldSignalCursorErrors() {
+		var cursor = new TestCursor(5) {
+			@Override
+			public Record next(long demand) throws SQLException {
+				throw new SQLException("Boom");
+			}
+		};
+		var subscriber = new TestSubscriber();
+		new RecordPublisher(cursor, Runnable::run).subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		assertThat(subscriber.error).isInstanceOf(SQLException.class).hasMessage("Boom");
+		assertThat(cursor.closed).isTrue();
+	}
+
+	@Test
+	void shouldOnlySupportOneSubscriber() {
+		var publisher = new RecordPublisher(new TestCursor(1), Runnable::run);
+		publisher.subscribe(new TestSubscriber());
+		var secondSubscriber = new TestSubscriber();
+		publisher.subscribe(secondSubscriber);
+
+		assertThat(secondSubscriber.error).isInstanceOf(IllegalStateException.class);
+	}
+
+	static class TestCursor implements RecordPublisher.Cursor {
+
+		final List<Long> demands = new ArrayList<>();
+
+		int remaining;
+
+		boolean closed;
+
+		TestCursor(int remaining) {
+			this.remaining = remaining;
+		}
+
+		@Override
+		public Record next(long demand) throws SQLException {
+			this.demands.add(demand);
+			if (this.remaining == 0) {
+				return null;
+			}
+			return Record.of(List.of("n"), new Value[] { Values.value(this.remaining--) });
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
+	static class TestSubscriber implements Flow.Subscriber<Record> {
+
+		Flow.Subscription subscription;
+
+		final List<Record> received = new ArrayList<>();
+
+		final AtomicBoolean completed = new AtomicBoolean();
+
+		Throwable error;
+
+		@Override
+		public void onSubscribe(Flow.Subscription newSubscription) {
+			this.subscription = newSubscription;
+		}
+
+		@Override
+		public void onNext(Record item) {
+			this.received.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed.set(true);
+		}
+
+	}
+
+}
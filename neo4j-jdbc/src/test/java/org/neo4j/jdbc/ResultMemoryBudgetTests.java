@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultMemoryBudgetTests {
+
+	@Test
+	void shouldNotLimitWithoutBudget() {
+		var budget = new ResultMemoryBudget(0);
+		budget.reserve(new Object(), Long.MAX_VALUE / 2);
+		assertThat(budget.isExhausted()).isFalse();
+		assertThat(budget.limitFetchSize(1000, 1024)).isEqualTo(1000);
+	}
+
+	@Test
+	void shouldBeConfiguredOnlyOnce() {
+		var budget = new ResultMemoryBudget(0);
+		assertThat(budget.configure(100)).isTrue();
+		assertThat(budget.configure(100)).isTrue();
+		assertThat(budget.configure(200)).isFalse();
+		assertThat(budget.configure(0)).isFalse();
+		assertThat(budget.limit()).isEqualTo(100);
+	}
+
+	@Test
+	void shouldAccountReservations() {
+		var budget = new ResultMemoryBudget(100);
+		var owner = new Object();
+		budget.reserve(owner, 60);
+		budget.reserve(owner, 40);
+		assertThat(budget.used()).isEqualTo(100);
+		assertThat(budget.isExhausted()).isTrue();
+		budget.release(owner, 60);
+		assertThat(budget.used()).isEqualTo(40);
+		assertThat(budget.isExhausted()).isFalse();
+	}
+
+	@Test
+	void shouldShrinkFetchSizeUnderPressure() {
+		var budget = new ResultMemoryBudget(100_000);
+		var owner = new Object();
+		assertThat(budget.limitFetchSize(1000, 10)).isEqualTo(1000);
+		assertThat(budget.limitFetchSize(1000, 0)).isEqualTo(1000);
+		budget.reserve(owner, 90_000);
+		assertThat(budget.limitFetchSize(1000, 100)).isEqualTo(100);
+		assertThat(budget.limitFetchSize(1000, 5_000)).isEqualTo(AdaptiveFetchSize.MIN_FETCH_SIZE);
+		budget.reserve(owner, 20_000);
+		assertThat(budget.limitFetchSize(1000, 0)).isEqualTo(AdaptiveFetchSize.MIN_FETCH_SIZE);
+		assertThat(budget.limitFetchSize(5, 0)).isEqualTo(5);
+	}
+
+	@Test
+	@Timeout(10)
+	void shouldDelayUntilReleased() throws Exception {
+		var budget = new ResultMemoryBudget(100);
+		var owner = new Object();
+		budget.reserve(owner, 100);
+		var waiting = CompletableFuture.runAsync(() -> budget.awaitCapacity(new Object()));
+		TimeUnit.MILLISECONDS.sleep(50);
+		budget.release(owner, 50);
+		waiting.get();
+		assertThat(budget.isExhausted()).isFalse();
+	}
+
+	@Test
+	void shouldDelayOnlyBriefly() {
+		var budget = new ResultMemoryBudget(100);
+		budget.reserve(new Object(), 200);
+		var start = System.nanoTime();
+		budget.awaitCapacity(new Object());
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(ResultMemoryBudget.MAX_DELAY_NANOS);
+		assertThat(budget.isExhausted()).isTrue();
+	}
+
+	@Test
+	void shouldNotDelayWhenOwnerHoldsBudget() {
+		var budget = new ResultMemoryBudget(100);
+		var owner = new Object();
+		budget.reserve(new Object(), 20);
+		budget.reserve(owner, 100);
+		var start = System.nanoTime();
+		budget.awaitCapacity(owner);
+		assertThat(System.nanoTime() - start).isLessThan(ResultMemoryBudget.MAX_DELAY_NANOS);
+		assertThat(budget.isExhausted()).isTrue();
+	}
+
+	@Test
+	void shouldAccountToOwnerRegardlessOfThread() throws Exception {
+		var budget = new ResultMemoryBudget(100);
+		var owner = new Object();
+		CompletableFuture.runAsync(() -> budget.reserve(owner, 100)).get();
+		var start = System.nanoTime();
+		budget.awaitCapacity(owner);
+		assertThat(System.nanoTime() - start).isLessThan(ResultMemoryBudget.MAX_DELAY_NANOS);
+		budget.release(owner, 100);
+		assertThat(budget.used()).isZero();
+		assertThat(budget.isExhausted()).isFalse();
+	}
+
+}
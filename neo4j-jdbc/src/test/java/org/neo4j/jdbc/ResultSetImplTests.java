@@ -29,6 +29,9 @@ import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.sql.ResultSet;
@@ -46,12 +49,16 @@ import java.time.OffsetTime;
 import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -67,6 +74,7 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.jdbc.values.Record;
@@ -79,8 +87,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 class ResultSetImplTests {
 
@@ -1604,6 +1617,330 @@ class ResultSetImplTests {
 		return (T) Array.get(Array.newInstance(clazz, 1), 0);
 	}
 
+	@ParameterizedTest
+	@CsvSource({ "0, 4", "6, 2", "4, -1" })
+	void shouldPullAheadOnceWatermarkIsReached(int maxRows, long expectedRequest) throws SQLException {
+		var statement = mock(StatementImpl.class);
+		var transaction = mock(Neo4jTransaction.class);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var keys = List.of("n");
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records())
+			.willReturn(Stream.of(1, 2, 3, 4).map(i -> Record.of(keys, new Value[] { Values.value(i) })).toList());
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(List.of(Record.of(keys, new Value[] { Values.value(5) })));
+		given(transaction.pull(any(), anyLong())).willReturn(secondBatch);
+
+		this.resultSet = new ResultSetImpl(statement, transaction, runResponse, firstBatch, 4, maxRows, 0, 0.5, null);
+
+		assertThat(this.resultSet.next()).isTrue();
+		then(transaction).should(never()).pullAhead(any(), anyLong());
+		assertThat(this.resultSet.next()).isTrue();
+		if (expectedRequest < 0) {
+			then(transaction).should(never()).pullAhead(any(), anyLong());
+		}
+		else {
+			then(transaction).should().pullAhead(runResponse, expectedRequest);
+		}
+		assertThat(this.resultSet.next()).isTrue();
+		assertThat(this.resultSet.next()).isTrue();
+		then(transaction).should(never()).pull(any(), anyLong());
+		assertThat(this.resultSet.next()).isEqualTo(expectedRequest > 0);
+		if (expectedRequest > 0) {
+			then(transaction).should().pull(runResponse, expectedRequest);
+			assertThat(this.resultSet.getInt(1)).isEqualTo(5);
+		}
+		then(transaction).should(atMostOnce()).pullAhead(any(), anyLong());
+	}
+
+	@Test
+	void shouldAccountBatchesInMemoryBudget() throws SQLException {
+		var budget = new ResultMemoryBudget(1_000_000);
+		var statement = mock(StatementImpl.class);
+		given(statement.getMemoryBudget()).willReturn(budget);
+		var transaction = mock(Neo4jTransaction.class);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var keys = List.of("s");
+		var records = Stream.of(1, 2, 3)
+			.map(i -> Record.of(keys, new Value[] { Values.value("x".repeat(1000)) }))
+			.toList();
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records()).willReturn(records);
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(records.subList(0, 1));
+		given(transaction.pull(any(), anyLong())).willReturn(secondBatch);
+
+		var recordSize = AdaptiveFetchSize.estimateSize(records.get(0));
+		this.resultSet = new ResultSetImpl(statement, transaction, runResponse, firstBatch, 10_000, 0, 0, 0.0, null);
+		assertThat(budget.used()).isEqualTo(3 * recordSize);
+
+		for (var i = 0; i < 4; ++i) {
+			assertThat(this.resultSet.next()).isTrue();
+		}
+		then(transaction).should().pull(runResponse, 1_000_000 / recordSize);
+		assertThat(budget.used()).isEqualTo(recordSize);
+
+		this.resultSet.close();
+		assertThat(budget.used()).isZero();
+	}
+
+	@Test
+	void shouldProvideVectorsAsBuffers() throws SQLException {
+		var keys = List.of("embedding");
+		var batch = mock(Neo4jTransaction.PullResponse.class);
+		given(batch.records())
+			.willReturn(List.of(Record.of(keys, new Value[] { Vector.of(new float[] { 0.5f, 1.5f }).asValue() })));
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), mock(Neo4jTransaction.class),
+				mock(Neo4jTransaction.RunResponse.class), batch, 1, 0, 0, 0.0, null);
+		this.resultSet.next();
+
+		var buffer = this.resultSet.getObject(1, FloatBuffer.class);
+		assertThat(buffer.isReadOnly()).isTrue();
+		assertThat(buffer.get(1)).isEqualTo(1.5f);
+		assertThat(this.resultSet.getObject("embedding", Buffer.class)).isInstanceOf(FloatBuffer.class);
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> this.resultSet.getObject(1, DoubleBuffer.class));
+	}
+
+	@Test
+	void shouldMapRowsToRecords() throws SQLException {
+		var keys = List.of("name", "age");
+		var batch = mock(Neo4jTransaction.PullResponse.class);
+		given(batch.records()).willReturn(List.of(Record.of(keys, new Value[] { Values.value("A"), Values.value(1) }),
+				Record.of(keys, new Value[] { Values.value("B"), Values.value(2) })));
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), mock(Neo4jTransaction.class),
+				mock(Neo4jTransaction.RunResponse.class), batch, 2, 0, 0, 0.0, null);
+		var neo4jResultSet = this.resultSet.unwrap(Neo4jResultSet.class);
+
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> neo4jResultSet.mapTo(Person.class));
+		var people = new ArrayList<Person>();
+		while (neo4jResultSet.next()) {
+			people.add(neo4jResultSet.mapTo(Person.class));
+		}
+		assertThat(people).containsExactly(new Person("A", 1L), new Person("B", 2L));
+	}
+
+	@Test
+	void publisherShouldTranslateDemandIntoPulls() throws SQLException {
+		var transaction = mock(Neo4jTransaction.class);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var keys = List.of("n");
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records())
+			.willReturn(Stream.of(1, 2).map(i -> Record.of(keys, new Value[] { Values.value(i) })).toList());
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(List.of(Record.of(keys, new Value[] { Values.value(3) })));
+		given(transaction.pull(any(), anyLong())).willReturn(secondBatch);
+
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), transaction, runResponse, firstBatch, 2, 0, 0,
+				0.0, null);
+
+		var received = new ArrayList<Integer>();
+		var completed = new AtomicBoolean();
+		var subscription = new AtomicReference<Flow.Subscription>();
+		this.resultSet.unwrap(Neo4jResultSet.class).asPublisher(Runnable::run).subscribe(new Flow.Subscriber<>() {
+			@Override
+			public void onSubscribe(Flow.Subscription newSubscription) {
+				subscription.set(newSubscription);
+			}
+
+			@Override
+			public void onNext(Record item) {
+				received.add(item.get(0).asInt());
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+			}
+
+			@Override
+			public void onComplete() {
+				completed.set(true);
+			}
+		});
+
+		subscription.get().request(2);
+		assertThat(received).containsExactly(1, 2);
+		then(transaction).should(never()).pull(any(), anyLong());
+
+		subscription.get().request(23);
+		then(transaction).should().pull(runResponse, 23);
+		assertThat(received).containsExactly(1, 2, 3);
+		assertThat(completed).isTrue();
+		assertThat(this.resultSet.isClosed()).isTrue();
+	}
+
+	@Test
+	void streamShouldSplitAlongBatches() throws SQLException {
+		var transaction = mock(Neo4jTransaction.class);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var keys = List.of("n");
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records())
+			.willReturn(Stream.of(1, 2, 3).map(i -> Record.of(keys, new Value[] { Values.value(i) })).toList());
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records())
+			.willReturn(Stream.of(4, 5).map(i -> Record.of(keys, new Value[] { Values.value(i) })).toList());
+		given(transaction.pull(any(), anyLong())).willReturn(secondBatch);
+
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), transaction, runResponse, firstBatch, 3, 0, 0,
+				0.0, null);
+
+		var spliterator = this.resultSet.unwrap(Neo4jResultSet.class).stream().spliterator();
+		var firstSplit = spliterator.trySplit();
+		assertThat(firstSplit).isNotNull();
+		assertThat(firstSplit.estimateSize()).isEqualTo(3L);
+		then(transaction).should(never()).pull(any(), anyLong());
+		var secondSplit = spliterator.trySplit();
+		assertThat(secondSplit).isNotNull();
+		assertThat(secondSplit.estimateSize()).isEqualTo(2L);
+		then(transaction).should().pull(runResponse, 3);
+		assertThat(spliterator.trySplit()).isNull();
+	}
+
+	@Test
+	void nextBatchShouldReturnColumnsAlongBatches() throws SQLException {
+		var transaction = mock(Neo4jTransaction.class);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var keys = List.of("i", "f", "b", "s");
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records()).willReturn(List.of(
+				Record.of(keys,
+						new Value[] { Values.value(1), Values.value(1.5), Values.value(true), Values.value("a") }),
+				Record.of(keys, new Value[] { Values.NULL, Values.value(2.5), Values.NULL, Values.value(2) }),
+				Record.of(keys, new Value[] { Values.value(3), Values.NULL, Values.value(false), Values.value("c") })));
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(List.of(Record.of(keys,
+				new Value[] { Values.value(4), Values.value(4.5), Values.value(true), Values.value("d") })));
+		given(transaction.pull(any(), anyLong())).willReturn(secondBatch);
+
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), transaction, runResponse, firstBatch, 3, 0, 0,
+				0.0, null);
+		var neo4jResultSet = this.resultSet.unwrap(Neo4jResultSet.class);
+
+		var batch = neo4jResultSet.nextBatch(10);
+		then(transaction).should(never()).pull(any(), anyLong());
+		assertThat(batch.rowCount()).isEqualTo(3);
+		assertThat(batch.keys()).containsExactlyElementsOf(keys);
+		assertThat(batch.column("i")).isInstanceOfSatisfying(ColumnBatch.LongColumn.class, column -> {
+			assertThat(column.values()).containsExactly(1L, 0L, 3L);
+			assertThat(column.isNull(1)).isTrue();
+			assertThat(column.get(1)).isEqualTo(Values.NULL);
+		});
+		assertThat(batch.column(2)).isInstanceOfSatisfying(ColumnBatch.DoubleColumn.class, column -> {
+			assertThat(column.values()).containsExactly(1.5, 2.5, 0.0);
+			assertThat(column.nulls().stream()).containsExactly(2);
+		});
+		assertThat(batch.column("b")).isInstanceOfSatisfying(ColumnBatch.BooleanColumn.class,
+				column -> assertThat(column.values()).containsExactly(true, false, false));
+		assertThat(batch.column("s")).isInstanceOfSatisfying(ColumnBatch.ValueColumn.class,
+				column -> assertThat(column.get(1)).isEqualTo(Values.value(2)));
+		assertThat(this.resultSet.getRow()).isEqualTo(3);
+
+		batch = neo4jResultSet.nextBatch(10);
+		then(transaction).should().pull(runResponse, 3);
+		assertThat(batch.rowCount()).isOne();
+		assertThat(((ColumnBatch.LongColumn) batch.column(1)).values()).containsExactly(4L);
+
+		assertThat(neo4jResultSet.nextBatch(10).isEmpty()).isTrue();
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> neo4jResultSet.nextBatch(0));
+	}
+
+	@Test
+	void streamShouldCloseResultSet() throws SQLException {
+		var transaction = mock(Neo4jTransaction.class);
+		var keys = List.of("n");
+		var batch = mock(Neo4jTransaction.PullResponse.class);
+		given(batch.records())
+			.willReturn(Stream.of(1, 2, 3).map(i -> Record.of(keys, new Value[] { Values.value(i) })).toList());
+
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), transaction,
+				mock(Neo4jTransaction.RunResponse.class), batch, 3, 0, 0, 0.0, null);
+
+		try (var records = this.resultSet.unwrap(Neo4jResultSet.class).stream()) {
+			assertThat(records.parallel().mapToInt(r -> r.get(0).asInt()).sum()).isEqualTo(6);
+		}
+		assertThat(this.resultSet.isClosed()).isTrue();
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "0, true", "2, false" })
+	void shouldDiscardAbandonedResults(int maxRows, boolean closeEarly) throws SQLException {
+		var transaction = mock(Neo4jTransaction.class);
+		given(transaction.isRunnable()).willReturn(true);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var keys = List.of("n");
+		var batch = mock(Neo4jTransaction.PullResponse.class);
+		given(batch.records())
+			.willReturn(Stream.of(1, 2, 3).map(i -> Record.of(keys, new Value[] { Values.value(i) })).toList());
+		given(batch.hasMore()).willReturn(true);
+
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), transaction, runResponse, batch, 3, maxRows, 0,
+				0.0, null);
+
+		assertThat(this.resultSet.next()).isTrue();
+		then(transaction).should(never()).discard(any());
+		if (closeEarly) {
+			this.resultSet.close();
+		}
+		else {
+			assertThat(this.resultSet.next()).isTrue();
+			assertThat(this.resultSet.next()).isFalse();
+			this.resultSet.close();
+		}
+		then(transaction).should().discard(runResponse);
+		then(transaction).should(never()).pull(any(), anyLong());
+	}
+
+	@Test
+	void scrollableResultSetShouldMoveFreely() throws SQLException {
+		var transaction = mock(Neo4jTransaction.class);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var keys = List.of("n");
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records())
+			.willReturn(Stream.of(1, 2).map(i -> Record.of(keys, new Value[] { Values.value(i) })).toList());
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(List.of(Record.of(keys, new Value[] { Values.value(3) })));
+		given(transaction.pull(any(), anyLong())).willReturn(secondBatch);
+
+		this.resultSet = new ResultSetImpl(mock(StatementImpl.class), transaction, runResponse, firstBatch, 2, 0, 0,
+				0.0, null, new RowBuffer(0, 64));
+
+		assertThat(this.resultSet.getType()).isEqualTo(ResultSet.TYPE_SCROLL_INSENSITIVE);
+		assertThat(this.resultSet.next()).isTrue();
+		assertThat(this.resultSet.isFirst()).isTrue();
+		then(transaction).should(never()).pull(any(), anyLong());
+		assertThat(this.resultSet.absolute(3)).isTrue();
+		assertThat(this.resultSet.getInt(1)).isEqualTo(3);
+		assertThat(this.resultSet.isLast()).isTrue();
+		assertThat(this.resultSet.previous()).isTrue();
+		assertThat(this.resultSet.getInt(1)).isEqualTo(2);
+		assertThat(this.resultSet.getRow()).isEqualTo(2);
+		assertThat(this.resultSet.relative(-1)).isTrue();
+		assertThat(this.resultSet.getInt(1)).isEqualTo(1);
+		assertThat(this.resultSet.absolute(-2)).isTrue();
+		assertThat(this.resultSet.getInt(1)).isEqualTo(2);
+		assertThat(this.resultSet.last()).isTrue();
+		assertThat(this.resultSet.getInt(1)).isEqualTo(3);
+		assertThat(this.resultSet.next()).isFalse();
+		assertThat(this.resultSet.isAfterLast()).isTrue();
+		assertThat(this.resultSet.previous()).isTrue();
+		assertThat(this.resultSet.getInt(1)).isEqualTo(3);
+		this.resultSet.beforeFirst();
+		assertThat(this.resultSet.isBeforeFirst()).isTrue();
+		assertThat(this.resultSet.first()).isTrue();
+		assertThat(this.resultSet.getInt(1)).isEqualTo(1);
+		assertThat(this.resultSet.absolute(4)).isFalse();
+		assertThat(this.resultSet.isAfterLast()).isTrue();
+		then(transaction).should().pull(runResponse, 2);
+	}
+
 	private ResultSet emptyResultSet() {
 		var statement = mock(StatementImpl.class);
 		var runResponse = mock(Neo4jTransaction.RunResponse.class);
@@ -1611,7 +1948,8 @@ class ResultSetImplTests {
 		var pullResponse = mock(Neo4jTransaction.PullResponse.class);
 		given(pullResponse.records()).willReturn(List.of());
 
-		return new ResultSetImpl(statement, mock(Neo4jTransaction.class), runResponse, pullResponse, 1000, 0, 0);
+		return new ResultSetImpl(statement, mock(Neo4jTransaction.class), runResponse, pullResponse, 1000, 0, 0, 0.0,
+				null);
 	}
 
 	private ResultSet setupWithValue(Value expectedValue, int maxFieldSize) throws SQLException {
@@ -1629,7 +1967,7 @@ class ResultSetImplTests {
 		given(pullResponse.records()).willReturn(List.of(boltRecord));
 
 		return new ResultSetImpl(statement, mock(Neo4jTransaction.class), runResponse, pullResponse, 1000, 0,
-				maxFieldSize);
+				maxFieldSize, 0.0, null);
 	}
 
 	@FunctionalInterface
@@ -1646,4 +1984,7 @@ class ResultSetImplTests {
 
 	}
 
+	record Person(String name, Long age) {
+	}
+
 }
@@ -177,7 +177,8 @@ class ResultSetMetaDataImplTests {
 		var pullResponse = mock(Neo4jTransaction.PullResponse.class);
 		given(pullResponse.records()).willReturn(boltRecords);
 
-		return new ResultSetImpl(statement, mock(Neo4jTransaction.class), runResponse, pullResponse, 1000, 0, 0);
+		return new ResultSetImpl(statement, mock(Neo4jTransaction.class), runResponse, pullResponse, 1000, 0, 0, 0.0,
+				null);
 	}
 
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.values.Node;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+import org.neo4j.jdbc.values.Vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+class RowBufferTests {
+
+	private static final List<String> KEYS = List.of("a", "b");
+
+	@Test
+	void shouldKeepRecordsOnHeapBelowThreshold() throws SQLException {
+		try (var rowBuffer = new RowBuffer()) {
+			var record = Record.of(KEYS, new Value[] { Values.value(1), Values.value("x") });
+			rowBuffer.add(record);
+
+			assertThat(rowBuffer.isSpilled()).isFalse();
+			assertThat(rowBuffer.size()).isOne();
+			assertThat(rowBuffer.get(0)).isSameAs(record);
+		}
+	}
+
+	@Test
+	void shouldSpillAcrossSegments() throws SQLException {
+		try (var rowBuffer = new RowBuffer(0, 64)) {
+			for (int i = 0; i < 100; ++i) {
+				rowBuffer.add(Record.of(KEYS, new Value[] { Values.value(i), Values.value("row " + i) }));
+			}
+
+			assertThat(rowBuffer.isSpilled()).isTrue();
+			assertThat(rowBuffer.size()).isEqualTo(100);
+			for (int i = 99; i >= 0; --i) {
+				var record = rowBuffer.get(i);
+				assertThat(record.keys()).isEqualTo(KEYS);
+				assertThat(record.get("a").asInt()).isEqualTo(i);
+				assertThat(record.get("b").asString()).isEqualTo("row " + i);
+			}
+		}
+	}
+
+	@Test
+	void shouldEncodeAllSupportedTypes() throws SQLException {
+		var values = new Value[] { Values.NULL, Values.value(true), Values.value(42L), Values.value(23.5),
+				Values.value("äöü"), Values.value(new byte[] { 1, 2, 3 }),
+				Values.value(Values.value(1), Values.value("x")), Values.value(Map.of("k", 1L)),
+				Values.value(LocalDate.of(2024, 2, 29)), Values.value(OffsetTime.of(10, 11, 12, 13, ZoneOffset.UTC)),
+				Values.value(LocalTime.of(1, 2, 3, 4)), Values.value(LocalDateTime.of(2024, 1, 1, 12, 0)),
+				Values.value(ZonedDateTime.of(2024, 10, 27, 2, 30, 0, 0, ZoneId.of("Europe/Berlin"))
+					.withLaterOffsetAtOverlap()),
+				Values.isoDuration(1, 2, 3, 4), Values.point(4326, 1.0, 2.0), Values.point(4979, 1.0, 2.0, 3.0),
+				Vector.of(new float[] { 1.0f, 2.0f }).asValue(), Vector.of(new long[] { 1L, 2L }).asValue() };
+		var keys = IntStream.range(0, values.length).mapToObj(i -> "c" + i).toList();
+		var record = Record.of(keys, values);
+
+		try (var rowBuffer = new RowBuffer(0, RowBuffer.DEFAULT_SEGMENT_SIZE)) {
+			rowBuffer.add(record);
+
+			assertThat(rowBuffer.isSpilled()).isTrue();
+			assertThat(rowBuffer.get(0)).isNotSameAs(record).isEqualTo(record);
+		}
+	}
+
+	@Test
+	void shouldKeepRecordsThatCannotBeEncodedOnHeap() throws SQLException {
+		var record = Record.of(KEYS, new Value[] { Values.value(1), Values.value(mock(Node.class)) });
+		assertThat(RowBuffer.encode(record)).isNull();
+
+		try (var rowBuffer = new RowBuffer(0, 64)) {
+			rowBuffer.add(Record.of(KEYS, new Value[] { Values.value(1), Values.value(2) }));
+			rowBuffer.add(record);
+
+			assertThat(rowBuffer.get(1)).isSameAs(record);
+			assertThat(rowBuffer.get(0).get("b").asInt()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void shouldReleaseSpilledRecordsOnClose() throws SQLException {
+		var rowBuffer = new RowBuffer(0, 64);
+		for (int i = 0; i < 10; ++i) {
+			rowBuffer.add(Record.of(KEYS, new Value[] { Values.value(i), Values.value("row " + i) }));
+		}
+		assertThat(rowBuffer.isSpilled()).isTrue();
+
+		rowBuffer.close();
+
+		assertThat(rowBuffer.isSpilled()).isFalse();
+		assertThat(rowBuffer.size()).isZero();
+		assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> rowBuffer.get(0));
+	}
+
+}
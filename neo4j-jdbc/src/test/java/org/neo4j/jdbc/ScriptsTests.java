@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScriptsTests {
+
+	@ParameterizedTest
+	@ValueSource(strings = { "MATCH (n) RETURN n", "MATCH (n) RETURN n;", " MATCH (n) RETURN n ; ;\n" })
+	void shouldNotSplitSingleStatement(String script) {
+		assertThat(Scripts.split(script, true)).containsExactly("MATCH (n) RETURN n");
+	}
+
+	@Test
+	void shouldSplitStatements() {
+		assertThat(Scripts.split("CREATE (n:Foo);\nSELECT * FROM Foo;\n\nRETURN 1", true))
+			.containsExactly("CREATE (n:Foo)", "SELECT * FROM Foo", "RETURN 1");
+	}
+
+	@Test
+	void shouldIgnoreSemicolonsInQuotes() {
+		assertThat(Scripts.split("RETURN 'a;b', \"c;\\\"d\", `e;f`; RETURN 'it''s;'", true))
+			.containsExactly("RETURN 'a;b', \"c;\\\"d\", `e;f`", "RETURN 'it''s;'");
+		assertThat(Scripts.split("SELECT 'a;b', \"c;\"\"d\" FROM x; SELECT 'it''s;' FROM `x`", false))
+			.containsExactly("SELECT 'a;b', \"c;\"\"d\" FROM x", "SELECT 'it''s;' FROM `x`");
+	}
+
+	@Test
+	void shouldNotTreatBackslashesAsEscapesInSql() {
+		assertThat(Scripts.split("SELECT 'C:\\'; SELECT 1", false)).containsExactly("SELECT 'C:\\'", "SELECT 1");
+		assertThat(Scripts.split("RETURN 'C:\\'; RETURN 1", true)).containsExactly("RETURN 'C:\\'; RETURN 1");
+	}
+
+	@Test
+	void shouldIgnoreSemicolonsInComments() {
+		assertThat(Scripts.split("""
+				/* first; */ RETURN 1; // second;
+				-- third; it's a comment
+				RETURN 2;
+				-- trailing; comment
+				""", true))
+			.containsExactly("/* first; */ RETURN 1", "// second;\n-- third; it's a comment\nRETURN 2");
+	}
+
+	@Test
+	void shouldNotMistakeRelationshipPatternsForComments() {
+		assertThat(Scripts.split("MATCH (a)-- (b) RETURN a; MATCH (a)<-- (b)--(c) RETURN a", true))
+			.containsExactly("MATCH (a)-- (b) RETURN a", "MATCH (a)<-- (b)--(c) RETURN a");
+	}
+
+	@Test
+	void shouldNotMistakeSpacedRelationshipPatternsForComments() {
+		assertThat(Scripts.split("MATCH (a) -- (b) RETURN a; RETURN 1", true))
+			.containsExactly("MATCH (a) -- (b) RETURN a", "RETURN 1");
+		assertThat(Scripts.split("MATCH (a) -- [r] RETURN a; RETURN 1", true))
+			.containsExactly("MATCH (a) -- [r] RETURN a", "RETURN 1");
+	}
+
+}
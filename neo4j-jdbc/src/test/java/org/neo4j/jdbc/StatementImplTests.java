@@ -19,6 +19,7 @@
 package org.neo4j.jdbc;
 
 import java.net.URI;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -26,7 +27,10 @@ import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Wrapper;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -38,18 +42,24 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.bolt.connection.SummaryCounters;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class StatementImplTests {
 
 	private StatementImpl statement;
 
 	static StatementImpl newStatement(Connection connection, Neo4jTransactionSupplier transactionSupplier) {
-		return new StatementImpl(connection, transactionSupplier, UnaryOperator.identity(), null, null);
+		return new StatementImpl(connection, transactionSupplier, UnaryOperator.identity(), null, null, 0.0, false, 0);
 	}
 
 	@Test
@@ -78,6 +88,25 @@ class StatementImplTests {
 		then(transaction).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldCancelWithTransactionOfLastExecution() throws SQLException {
+		var query = "query";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0))
+			.willReturn(new Neo4jTransaction.RunAndPullResponses(mock(Neo4jTransaction.RunResponse.class),
+					mock(Neo4jTransaction.PullResponse.class)));
+
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+		this.statement.cancel();
+		then(transaction).shouldHaveNoInteractions();
+
+		this.statement.executeQuery(query);
+		this.statement.cancel();
+		then(transaction).should().cancel();
+	}
+
 	static Connection mockConnection() throws SQLException {
 		var connection = mock(ConnectionImpl.class);
 		given(connection.unwrap(any())).willReturn(connection);
@@ -85,6 +114,59 @@ class StatementImplTests {
 		return connection;
 	}
 
+	@Test
+	void shouldExecuteUpdateAsync() throws Exception {
+		// given
+		var query = "query";
+		var discardResponse = mock(Neo4jTransaction.DiscardResponse.class);
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.runAndDiscardAsync(query, Collections.emptyMap(), 0, true))
+			.willReturn(CompletableFuture.completedFuture(discardResponse));
+		var response = mock(Neo4jTransaction.ResultSummary.class);
+		given(discardResponse.resultSummary()).willReturn(Optional.of(response));
+		var counters = mock(SummaryCounters.class);
+		given(response.counters()).willReturn(counters);
+		var totalUpdates = 5;
+		given(counters.nodesDeleted()).willReturn(totalUpdates);
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+
+		// when
+		var updates = this.statement.executeUpdateAsync(query).toCompletableFuture().get();
+
+		// then
+		assertThat(updates).isEqualTo(totalUpdates);
+		then(transaction).should().runAndDiscardAsync(query, Collections.emptyMap(), 0, true);
+		then(transaction).should(never()).runAndDiscard(any(), any(), anyInt(), anyBoolean());
+	}
+
+	@Test
+	void shouldRejectExecutionWhileAsyncExecutionIsInFlight() throws Exception {
+		var query = "query";
+		var discardResponse = mock(Neo4jTransaction.DiscardResponse.class);
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var pending = new CompletableFuture<Neo4jTransaction.DiscardResponse>();
+		given(transaction.runAndDiscardAsync(query, Collections.emptyMap(), 0, true)).willReturn(pending);
+		given(discardResponse.resultSummary()).willReturn(Optional.empty());
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+
+		var updates = this.statement.executeUpdateAsync(query).toCompletableFuture();
+
+		assertThatThrownBy(() -> this.statement.executeUpdate(query)).isInstanceOf(SQLException.class)
+			.hasMessageContaining("still in flight");
+		assertThatThrownBy(() -> this.statement.executeQueryAsync(query)).isInstanceOf(SQLException.class)
+			.hasMessageContaining("still in flight");
+		pending.complete(discardResponse);
+		assertThat(updates.get()).isZero();
+		this.statement.executeUpdateAsync(query);
+		then(transaction).should(times(2)).runAndDiscardAsync(query, Collections.emptyMap(), 0, true);
+	}
+
 	@Test
 	void shouldExecuteUpdate() throws SQLException {
 		// given
@@ -114,6 +196,64 @@ class StatementImplTests {
 		then(transaction).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldExecuteBatch() throws SQLException {
+		// given
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		var counters = mock(SummaryCounters.class);
+		given(counters.nodesCreated()).willReturn(2);
+		var resultSummary = mock(Neo4jTransaction.ResultSummary.class);
+		given(resultSummary.counters()).willReturn(counters);
+		var created = mock(Neo4jTransaction.DiscardResponse.class);
+		given(created.resultSummary()).willReturn(Optional.of(resultSummary));
+		var nothing = mock(Neo4jTransaction.DiscardResponse.class);
+		given(nothing.resultSummary()).willReturn(Optional.empty());
+		var queries = List.of(new Neo4jTransaction.BatchQuery("CREATE (n), (m)", Map.of()),
+				new Neo4jTransaction.BatchQuery("CREATE INDEX foo FOR (n:Foo) ON (n.bar)", Map.of()));
+		given(transaction.runAndDiscardAll(queries, 0, true)).willReturn(List.of(created, nothing));
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+
+		// when
+		this.statement.addBatch("CREATE (n), (m)");
+		this.statement.addBatch("CREATE INDEX foo FOR (n:Foo) ON (n.bar)");
+		var updateCounts = this.statement.executeBatch();
+
+		// then
+		assertThat(updateCounts).containsExactly(2, 0);
+		then(transaction).should().runAndDiscardAll(queries, 0, true);
+		assertThat(this.statement.executeBatch()).isEmpty();
+	}
+
+	@Test
+	void shouldClearBatch() throws SQLException {
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+
+		this.statement.addBatch("CREATE (n)");
+		this.statement.clearBatch();
+
+		assertThat(this.statement.executeBatch()).isEmpty();
+		then(transactionSupplier).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void shouldReportFailedBatch() throws SQLException {
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.runAndDiscardAll(any(), anyInt(), anyBoolean())).willThrow(new SQLException("oops"));
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+
+		this.statement.addBatch("CREATE (n)");
+
+		assertThatExceptionOfType(BatchUpdateException.class).isThrownBy(this.statement::executeBatch)
+			.withMessage("oops")
+			.satisfies(ex -> assertThat(ex.getUpdateCounts()).isEmpty());
+	}
+
 	@Test
 	void shouldExecuteQueryUsingMultipleResultsApi() throws SQLException {
 		// given
@@ -266,16 +406,86 @@ class StatementImplTests {
 		assertThatThrownBy(() -> consumer.run(this.statement)).isExactlyInstanceOf(exceptionType);
 	}
 
+	@Test
+	void shouldExecuteScriptUsingMultipleResultsApi() throws SQLException {
+		// given
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.isRunnable()).willReturn(true);
+		var updateResponses = new Neo4jTransaction.RunAndPullResponses(mock(Neo4jTransaction.RunResponse.class),
+				mockPullResponse(2));
+		var queryResponses = new Neo4jTransaction.RunAndPullResponses(mock(Neo4jTransaction.RunResponse.class),
+				mockPullResponse(0));
+		given(transaction.runAndPullAll(List.of(new Neo4jTransaction.BatchQuery("CREATE (a), (b)", Map.of()),
+				new Neo4jTransaction.BatchQuery("MATCH (n) RETURN ';' AS n", Map.of())),
+				StatementImpl.DEFAULT_FETCH_SIZE, 0))
+			.willReturn(List.of(updateResponses, queryResponses));
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+		this.statement.setAllowMultiQueries(true);
+
+		// when
+		var hasResultSet = this.statement.execute("CREATE (a), (b); MATCH (n) RETURN ';' AS n;");
+		var updates = this.statement.getUpdateCount();
+		var hasMoreResults = this.statement.getMoreResults();
+		var nextResultSet = this.statement.getResultSet();
+		var nextUpdates = this.statement.getUpdateCount();
+		var hasEvenMoreResults = this.statement.getMoreResults(Statement.CLOSE_CURRENT_RESULT);
+		var lastUpdates = this.statement.getUpdateCount();
+
+		// then
+		assertThat(hasResultSet).isFalse();
+		assertThat(updates).isEqualTo(2);
+		assertThat(hasMoreResults).isTrue();
+		assertThat(nextResultSet).isNotNull();
+		assertThat(nextUpdates).isEqualTo(-1);
+		assertThat(hasEvenMoreResults).isFalse();
+		assertThat(lastUpdates).isEqualTo(-1);
+		assertThat(nextResultSet.isClosed()).isTrue();
+		then(transaction).should().runAndPullAll(anyList(), anyInt(), anyInt());
+		then(transaction).should(never()).runAndPull(any(), any(), anyInt(), anyInt());
+		then(transaction).should(times(1)).commit();
+	}
+
+	@Test
+	void shouldNotSplitScriptUnlessMultiQueriesAreAllowed() throws SQLException {
+		// given
+		var query = "CREATE (a); CREATE (b)";
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0))
+			.willReturn(new Neo4jTransaction.RunAndPullResponses(mock(Neo4jTransaction.RunResponse.class),
+					mockPullResponse(2)));
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+
+		// when
+		this.statement.execute(query);
+
+		// then
+		then(transaction).should().runAndPull(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0);
+		then(transaction).should(never()).runAndPullAll(anyList(), anyInt(), anyInt());
+	}
+
+	private static Neo4jTransaction.PullResponse mockPullResponse(int totalUpdates) {
+		var pullResponse = mock(Neo4jTransaction.PullResponse.class);
+		var resultSummary = mock(Neo4jTransaction.ResultSummary.class);
+		given(pullResponse.resultSummary()).willReturn(Optional.of(resultSummary));
+		var summaryCounters = mock(SummaryCounters.class);
+		given(resultSummary.counters()).willReturn(summaryCounters);
+		given(summaryCounters.totalCount()).willReturn(totalUpdates);
+		given(pullResponse.records()).willReturn(Collections.emptyList());
+		return pullResponse;
+	}
+
 	static Stream<Arguments> getUnsupportedMethodExecutors() {
-		return Stream.of(Arguments.of((StatementMethodRunner) Statement::cancel, SQLFeatureNotSupportedException.class),
+		return Stream.of(
 				Arguments.of((StatementMethodRunner) statement -> statement.setCursorName("name"),
 						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) statement -> statement.addBatch("query"),
-						SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) Statement::clearBatch, SQLFeatureNotSupportedException.class),
-				Arguments.of((StatementMethodRunner) Statement::executeBatch, SQLFeatureNotSupportedException.class),
 				Arguments.of(
-						(StatementMethodRunner) statement -> statement.getMoreResults(Statement.CLOSE_CURRENT_RESULT),
+						(StatementMethodRunner) statement -> statement.getMoreResults(Statement.KEEP_CURRENT_RESULT),
 						SQLFeatureNotSupportedException.class),
 				Arguments.of((StatementMethodRunner) Statement::getGeneratedKeys,
 						SQLFeatureNotSupportedException.class),
@@ -18,17 +18,26 @@
  */
 package org.neo4j.jdbc.values;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -63,6 +72,47 @@ class ArrayBasedVectorsTests {
 		assertThat(vector.vectorDimensionCount()).isEqualTo(vector.size());
 	}
 
+	static Stream<Arguments> asBufferShouldProvideReadOnlyViews() {
+		return Stream.of(Arguments.of(Vector.of(new byte[] { 1, 2 }), ByteBuffer.class),
+				Arguments.of(Vector.of(new short[] { 1, 2 }), ShortBuffer.class),
+				Arguments.of(Vector.of(new int[] { 1, 2 }), IntBuffer.class),
+				Arguments.of(Vector.of(new long[] { 1, 2 }), LongBuffer.class),
+				Arguments.of(Vector.of(new float[] { 1, 2 }), FloatBuffer.class),
+				Arguments.of(Vector.of(new double[] { 1, 2 }), DoubleBuffer.class));
+	}
+
+	@ParameterizedTest
+	@MethodSource
+	void asBufferShouldProvideReadOnlyViews(Vector vector, Class<? extends Buffer> expectedType) {
+		var buffer = vector.asBuffer();
+		assertThat(buffer).isInstanceOf(expectedType);
+		assertThat(buffer.isReadOnly()).isTrue();
+		assertThat(buffer.remaining()).isEqualTo(vector.size());
+		assertThat(vector.asBuffer()).isNotSameAs(buffer);
+	}
+
+	@Test
+	void asBufferShouldNotCopy() {
+		var vector = (Vector.Float32Vector) Vector.of(new float[] { 1.0f, 2.0f, 3.0f });
+		var buffer = vector.asBuffer();
+		assertThat(buffer.hasArray()).isFalse();
+		assertThat(buffer.get(2)).isEqualTo(3.0f);
+		assertThat(buffer.duplicate().position(1).get()).isEqualTo(2.0f);
+	}
+
+	@Test
+	void copyIntoShouldCopyIntoExistingArrays() {
+		var target = new double[5];
+		var vector = (Vector.Float64Vector) Vector.of(new double[] { 1.0, 2.0 });
+		assertThat(vector.copyInto(target, 2)).isEqualTo(2);
+		assertThat(target).containsExactly(0.0, 0.0, 1.0, 2.0, 0.0);
+		assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> vector.copyInto(target, 4));
+
+		var longs = new long[2];
+		((Vector.Int64Vector) Vector.of(new long[] { 3, 4 })).copyInto(longs, 0);
+		assertThat(longs).containsExactly(3, 4);
+	}
+
 	static Stream<Arguments> nullCheckShouldWork() {
 		return Stream.of(Arguments.of((Supplier<Vector>) () -> Vector.of((byte[]) null)),
 				Arguments.of((Supplier<Vector>) () -> Vector.of((short[]) null)),
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023-2025 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.values;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordImplTests {
+
+	@Test
+	void shouldConvertValuesOnlyOnFirstAccess() {
+		var conversions = new AtomicInteger();
+		AsValue a = () -> {
+			conversions.incrementAndGet();
+			return Values.value("a");
+		};
+		AsValue b = () -> {
+			conversions.incrementAndGet();
+			return Values.value("b");
+		};
+
+		var record = RecordImpl.LAZY_FACTORY.apply(List.of("a", "b"), List.of(a, b));
+		assertThat(conversions).hasValue(0);
+
+		assertThat(record.get(1).asString()).isEqualTo("b");
+		assertThat(record.get("b").asString()).isEqualTo("b");
+		assertThat(conversions).hasValue(1);
+
+		assertThat(record.values()).containsExactly(Values.value("a"), Values.value("b"));
+		assertThat(conversions).hasValue(2);
+	}
+
+	@Test
+	void lazyRecordsShouldUnwrapValuesWithoutCopying() {
+		var value = Values.value(42L);
+		AsValue raw = () -> value;
+
+		var record = RecordImpl.LAZY_FACTORY.apply(List.of("a"), List.of(raw));
+
+		assertThat(record.get(0)).isSameAs(value);
+		assertThat(record.get("a")).isSameAs(value);
+	}
+
+	@Test
+	void lazyRecordsShouldEqualEagerRecords() {
+		var keys = List.of("a", "b");
+		var lazy = RecordImpl.LAZY_FACTORY.apply(keys, List.of(1, "x"));
+		var eager = Record.of(keys, new Value[] { Values.value(1), Values.value("x") });
+
+		assertThat(lazy).isEqualTo(eager);
+		assertThat(lazy.hashCode()).isEqualTo(eager.hashCode());
+		assertThat(lazy.get(2)).isEqualTo(Values.NULL);
+		assertThat(lazy.get("c")).isEqualTo(Values.NULL);
+	}
+
+}